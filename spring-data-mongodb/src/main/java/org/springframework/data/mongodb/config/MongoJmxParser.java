@@ -52,6 +52,12 @@ public class MongoJmxParser implements BeanDefinitionParser {
 		createBeanDefEntry(ServerInfo.class, compositeDef, mongoRefName, eleSource, parserContext);
 		createBeanDefEntry(MongoAdmin.class, compositeDef, mongoRefName, eleSource, parserContext);
 
+		String operationMetricsRef = element.getAttribute("operation-metrics-ref");
+
+		if (StringUtils.hasText(operationMetricsRef)) {
+			createBeanDefEntry(ClientOperationMetrics.class, compositeDef, operationMetricsRef, eleSource, parserContext);
+		}
+
 		parserContext.registerComponent(compositeDef);
 
 	}
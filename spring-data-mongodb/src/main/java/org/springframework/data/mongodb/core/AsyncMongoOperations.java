@@ -0,0 +1,157 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.List;
+import java.util.concurrent.Future;
+
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.WriteResult;
+
+/**
+ * Asynchronous counterpart of the most commonly used operations of {@link MongoOperations}. Every operation is
+ * executed in the background and returns a {@link Future} immediately. Failures are reported through
+ * {@link Future#get()} throwing a {@link java.util.concurrent.ExecutionException} wrapping the same exception the
+ * synchronous operation would have thrown.
+ *
+ * @see MongoOperations
+ */
+public interface AsyncMongoOperations {
+
+	/**
+	 * @see MongoOperations#find(Query, Class)
+	 */
+	<T> Future<List<T>> find(Query query, Class<T> entityClass);
+
+	/**
+	 * @see MongoOperations#find(Query, Class, String)
+	 */
+	<T> Future<List<T>> find(Query query, Class<T> entityClass, String collectionName);
+
+	/**
+	 * @see MongoOperations#findOne(Query, Class)
+	 */
+	<T> Future<T> findOne(Query query, Class<T> entityClass);
+
+	/**
+	 * @see MongoOperations#findOne(Query, Class, String)
+	 */
+	<T> Future<T> findOne(Query query, Class<T> entityClass, String collectionName);
+
+	/**
+	 * @see MongoOperations#findById(Object, Class)
+	 */
+	<T> Future<T> findById(Object id, Class<T> entityClass);
+
+	/**
+	 * @see MongoOperations#findById(Object, Class, String)
+	 */
+	<T> Future<T> findById(Object id, Class<T> entityClass, String collectionName);
+
+	/**
+	 * @see MongoOperations#findAndModify(Query, Update, Class)
+	 */
+	<T> Future<T> findAndModify(Query query, Update update, Class<T> entityClass);
+
+	/**
+	 * @see MongoOperations#findAndModify(Query, Update, FindAndModifyOptions, Class)
+	 */
+	<T> Future<T> findAndModify(Query query, Update update, FindAndModifyOptions options, Class<T> entityClass);
+
+	/**
+	 * @see MongoOperations#count(Query, Class)
+	 */
+	Future<Long> count(Query query, Class<?> entityClass);
+
+	/**
+	 * @see MongoOperations#count(Query, String)
+	 */
+	Future<Long> count(Query query, String collectionName);
+
+	/**
+	 * @see MongoOperations#insert(Object)
+	 */
+	Future<Void> insert(Object objectToSave);
+
+	/**
+	 * @see MongoOperations#insert(Object, String)
+	 */
+	Future<Void> insert(Object objectToSave, String collectionName);
+
+	/**
+	 * @see MongoOperations#save(Object)
+	 */
+	Future<Void> save(Object objectToSave);
+
+	/**
+	 * @see MongoOperations#save(Object, String)
+	 */
+	Future<Void> save(Object objectToSave, String collectionName);
+
+	/**
+	 * @see MongoOperations#upsert(Query, Update, Class)
+	 */
+	Future<WriteResult> upsert(Query query, Update update, Class<?> entityClass);
+
+	/**
+	 * @see MongoOperations#upsert(Query, Update, String)
+	 */
+	Future<WriteResult> upsert(Query query, Update update, String collectionName);
+
+	/**
+	 * @see MongoOperations#updateFirst(Query, Update, Class)
+	 */
+	Future<WriteResult> updateFirst(Query query, Update update, Class<?> entityClass);
+
+	/**
+	 * @see MongoOperations#updateFirst(Query, Update, String)
+	 */
+	Future<WriteResult> updateFirst(Query query, Update update, String collectionName);
+
+	/**
+	 * @see MongoOperations#updateMulti(Query, Update, Class)
+	 */
+	Future<WriteResult> updateMulti(Query query, Update update, Class<?> entityClass);
+
+	/**
+	 * @see MongoOperations#updateMulti(Query, Update, String)
+	 */
+	Future<WriteResult> updateMulti(Query query, Update update, String collectionName);
+
+	/**
+	 * @see MongoOperations#remove(Object)
+	 */
+	Future<Void> remove(Object object);
+
+	/**
+	 * @see MongoOperations#remove(Query, Class)
+	 */
+	<T> Future<Void> remove(Query query, Class<T> entityClass);
+
+	/**
+	 * @see MongoOperations#remove(Query, String)
+	 */
+	Future<Void> remove(Query query, String collectionName);
+
+	/**
+	 * Returns the synchronous {@link MongoOperations} all operations are delegated to.
+	 *
+	 * @return
+	 */
+	MongoOperations getMongoOperations();
+}
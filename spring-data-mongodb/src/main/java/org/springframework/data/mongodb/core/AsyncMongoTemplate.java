@@ -0,0 +1,361 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.util.Assert;
+
+import com.mongodb.WriteResult;
+
+/**
+ * Default implementation of {@link AsyncMongoOperations} delegating to a {@link MongoOperations} instance (usually a
+ * {@link MongoTemplate}) on a configurable {@link Executor}. Thus mapping, conversion and exception translation work
+ * exactly like for the synchronous operations. As every operation occupies a thread of the {@link Executor} while
+ * waiting for the database, the {@link Executor} should either be sized to the expected number of concurrent
+ * operations or create a new (lightweight) thread per task.
+ */
+public class AsyncMongoTemplate implements AsyncMongoOperations {
+
+	private final MongoOperations operations;
+	private final Executor executor;
+
+	/**
+	 * Creates a new {@link AsyncMongoTemplate} for the given {@link MongoOperations} and {@link Executor}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 */
+	public AsyncMongoTemplate(MongoOperations operations, Executor executor) {
+
+		Assert.notNull(operations, "MongoOperations must not be null!");
+		Assert.notNull(executor, "Executor must not be null!");
+
+		this.operations = operations;
+		this.executor = executor;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#find(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	public <T> Future<List<T>> find(final Query query, final Class<T> entityClass) {
+		return submit(new Callable<List<T>>() {
+			public List<T> call() throws Exception {
+				return operations.find(query, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#find(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String)
+	 */
+	public <T> Future<List<T>> find(final Query query, final Class<T> entityClass, final String collectionName) {
+		return submit(new Callable<List<T>>() {
+			public List<T> call() throws Exception {
+				return operations.find(query, entityClass, collectionName);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#findOne(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	public <T> Future<T> findOne(final Query query, final Class<T> entityClass) {
+		return submit(new Callable<T>() {
+			public T call() throws Exception {
+				return operations.findOne(query, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#findOne(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String)
+	 */
+	public <T> Future<T> findOne(final Query query, final Class<T> entityClass, final String collectionName) {
+		return submit(new Callable<T>() {
+			public T call() throws Exception {
+				return operations.findOne(query, entityClass, collectionName);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#findById(java.lang.Object, java.lang.Class)
+	 */
+	public <T> Future<T> findById(final Object id, final Class<T> entityClass) {
+		return submit(new Callable<T>() {
+			public T call() throws Exception {
+				return operations.findById(id, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#findById(java.lang.Object, java.lang.Class, java.lang.String)
+	 */
+	public <T> Future<T> findById(final Object id, final Class<T> entityClass, final String collectionName) {
+		return submit(new Callable<T>() {
+			public T call() throws Exception {
+				return operations.findById(id, entityClass, collectionName);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#findAndModify(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.Class)
+	 */
+	public <T> Future<T> findAndModify(final Query query, final Update update, final Class<T> entityClass) {
+		return submit(new Callable<T>() {
+			public T call() throws Exception {
+				return operations.findAndModify(query, update, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#findAndModify(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, org.springframework.data.mongodb.core.FindAndModifyOptions, java.lang.Class)
+	 */
+	public <T> Future<T> findAndModify(final Query query, final Update update, final FindAndModifyOptions options,
+			final Class<T> entityClass) {
+		return submit(new Callable<T>() {
+			public T call() throws Exception {
+				return operations.findAndModify(query, update, options, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#count(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	public Future<Long> count(final Query query, final Class<?> entityClass) {
+		return submit(new Callable<Long>() {
+			public Long call() throws Exception {
+				return operations.count(query, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#count(org.springframework.data.mongodb.core.query.Query, java.lang.String)
+	 */
+	public Future<Long> count(final Query query, final String collectionName) {
+		return submit(new Callable<Long>() {
+			public Long call() throws Exception {
+				return operations.count(query, collectionName);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#insert(java.lang.Object)
+	 */
+	public Future<Void> insert(final Object objectToSave) {
+		return submit(new Callable<Void>() {
+			public Void call() throws Exception {
+				operations.insert(objectToSave);
+				return null;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#insert(java.lang.Object, java.lang.String)
+	 */
+	public Future<Void> insert(final Object objectToSave, final String collectionName) {
+		return submit(new Callable<Void>() {
+			public Void call() throws Exception {
+				operations.insert(objectToSave, collectionName);
+				return null;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#save(java.lang.Object)
+	 */
+	public Future<Void> save(final Object objectToSave) {
+		return submit(new Callable<Void>() {
+			public Void call() throws Exception {
+				operations.save(objectToSave);
+				return null;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#save(java.lang.Object, java.lang.String)
+	 */
+	public Future<Void> save(final Object objectToSave, final String collectionName) {
+		return submit(new Callable<Void>() {
+			public Void call() throws Exception {
+				operations.save(objectToSave, collectionName);
+				return null;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#upsert(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.Class)
+	 */
+	public Future<WriteResult> upsert(final Query query, final Update update, final Class<?> entityClass) {
+		return submit(new Callable<WriteResult>() {
+			public WriteResult call() throws Exception {
+				return operations.upsert(query, update, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#upsert(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.String)
+	 */
+	public Future<WriteResult> upsert(final Query query, final Update update, final String collectionName) {
+		return submit(new Callable<WriteResult>() {
+			public WriteResult call() throws Exception {
+				return operations.upsert(query, update, collectionName);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#updateFirst(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.Class)
+	 */
+	public Future<WriteResult> updateFirst(final Query query, final Update update, final Class<?> entityClass) {
+		return submit(new Callable<WriteResult>() {
+			public WriteResult call() throws Exception {
+				return operations.updateFirst(query, update, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#updateFirst(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.String)
+	 */
+	public Future<WriteResult> updateFirst(final Query query, final Update update, final String collectionName) {
+		return submit(new Callable<WriteResult>() {
+			public WriteResult call() throws Exception {
+				return operations.updateFirst(query, update, collectionName);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#updateMulti(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.Class)
+	 */
+	public Future<WriteResult> updateMulti(final Query query, final Update update, final Class<?> entityClass) {
+		return submit(new Callable<WriteResult>() {
+			public WriteResult call() throws Exception {
+				return operations.updateMulti(query, update, entityClass);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#updateMulti(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update, java.lang.String)
+	 */
+	public Future<WriteResult> updateMulti(final Query query, final Update update, final String collectionName) {
+		return submit(new Callable<WriteResult>() {
+			public WriteResult call() throws Exception {
+				return operations.updateMulti(query, update, collectionName);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#remove(java.lang.Object)
+	 */
+	public Future<Void> remove(final Object object) {
+		return submit(new Callable<Void>() {
+			public Void call() throws Exception {
+				operations.remove(object);
+				return null;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#remove(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	public <T> Future<Void> remove(final Query query, final Class<T> entityClass) {
+		return submit(new Callable<Void>() {
+			public Void call() throws Exception {
+				operations.remove(query, entityClass);
+				return null;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#remove(org.springframework.data.mongodb.core.query.Query, java.lang.String)
+	 */
+	public Future<Void> remove(final Query query, final String collectionName) {
+		return submit(new Callable<Void>() {
+			public Void call() throws Exception {
+				operations.remove(query, collectionName);
+				return null;
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.AsyncMongoOperations#getMongoOperations()
+	 */
+	public MongoOperations getMongoOperations() {
+		return operations;
+	}
+
+	/**
+	 * Hands the given {@link Callable} to the {@link Executor} and returns a {@link Future} for its result.
+	 *
+	 * @param callable must not be {@literal null}.
+	 * @return
+	 */
+	private <T> Future<T> submit(Callable<T> callable) {
+
+		FutureTask<T> task = new FutureTask<T>(callable);
+		executor.execute(task);
+		return task;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.util.Assert;
+
+import com.mongodb.MongoException;
+
+/**
+ * Exception being thrown if one or more operations executed via {@link BulkOperations} failed. Carries the errors
+ * reported by the server as well as the {@link BulkWriteResult} of the operations executed successfully.
+ */
+public class BulkOperationException extends NonTransientDataAccessException {
+
+	private static final long serialVersionUID = 2546408853617282361L;
+
+	private final List<MongoException> errors;
+	private final BulkWriteResult result;
+
+	/**
+	 * Creates a new {@link BulkOperationException} for the given errors and partial result.
+	 *
+	 * @param errors the errors of the failed operations in execution order, must not be {@literal null} or empty.
+	 * @param result the {@link BulkWriteResult} of the operations that succeeded, must not be {@literal null}.
+	 */
+	public BulkOperationException(List<MongoException> errors, BulkWriteResult result) {
+
+		super(getMessage(errors), errors == null || errors.isEmpty() ? null : errors.get(0));
+
+		Assert.notEmpty(errors, "Errors must not be null or empty!");
+		Assert.notNull(result, "BulkWriteResult must not be null!");
+
+		this.errors = Collections.unmodifiableList(errors);
+		this.result = result;
+	}
+
+	/**
+	 * Returns the errors of all failed operations in execution order. Will only contain a single element for
+	 * {@link BulkOperations.BulkMode#ORDERED}.
+	 *
+	 * @return
+	 */
+	public List<MongoException> getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Returns the {@link BulkWriteResult} aggregating the operations that succeeded.
+	 *
+	 * @return
+	 */
+	public BulkWriteResult getResult() {
+		return result;
+	}
+
+	private static String getMessage(List<MongoException> errors) {
+
+		if (errors == null || errors.isEmpty()) {
+			return "Bulk operation failed!";
+		}
+
+		return String.format("%s of the bulk operations failed! First error: %s", errors.size(),
+				errors.get(0).getMessage());
+	}
+}
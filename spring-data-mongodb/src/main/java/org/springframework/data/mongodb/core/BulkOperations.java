@@ -0,0 +1,118 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collection;
+
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Bulk operations on a collection. Inserts, updates and removes are collected and mapped against the domain type
+ * upfront and only sent to the database on {@link #execute()}, all of them over a single connection. Consecutive
+ * inserts are sent as a single batch.
+ */
+public interface BulkOperations {
+
+	/**
+	 * Mode in which the collected operations are executed.
+	 */
+	enum BulkMode {
+
+		/**
+		 * Operations are executed in order and errors are checked after each run of operations of the same kind.
+		 * Execution stops after the first failing run, the operations executed before stay applied. The
+		 * {@link BulkOperationException} thrown carries the error and the counts of the runs executed before.
+		 */
+		ORDERED,
+
+		/**
+		 * All operations are executed even if some of them fail. Errors are checked once per batch of operations, the last
+		 * error of each failed batch is collected and raised together in a single {@link BulkOperationException}
+		 * carrying the counts of the succeeded batches.
+		 */
+		UNORDERED
+	};
+
+	/**
+	 * Adds an insert of the given document or domain object.
+	 *
+	 * @param document must not be {@literal null}.
+	 * @return the current {@link BulkOperations} instance.
+	 */
+	BulkOperations insert(Object document);
+
+	/**
+	 * Adds inserts of all the given documents or domain objects.
+	 *
+	 * @param documents must not be {@literal null}.
+	 * @return the current {@link BulkOperations} instance.
+	 */
+	BulkOperations insert(Collection<? extends Object> documents);
+
+	/**
+	 * Adds a save of the given document or domain object. Documents without an id are inserted, documents with an id
+	 * replace the stored document with the same id or are inserted if none exists yet.
+	 *
+	 * @param document must not be {@literal null}.
+	 * @return the current {@link BulkOperations} instance.
+	 */
+	BulkOperations save(Object document);
+
+	/**
+	 * Adds an update of the first document matching the given {@link Query}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @return the current {@link BulkOperations} instance.
+	 */
+	BulkOperations updateFirst(Query query, Update update);
+
+	/**
+	 * Adds an update of all documents matching the given {@link Query}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @return the current {@link BulkOperations} instance.
+	 */
+	BulkOperations updateMulti(Query query, Update update);
+
+	/**
+	 * Adds an upsert for the given {@link Query}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @return the current {@link BulkOperations} instance.
+	 */
+	BulkOperations upsert(Query query, Update update);
+
+	/**
+	 * Adds a removal of all documents matching the given {@link Query}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @return the current {@link BulkOperations} instance.
+	 */
+	BulkOperations remove(Query query);
+
+	/**
+	 * Sends all operations collected so far to the database and resets the {@link BulkOperations} so that it can be
+	 * reused.
+	 *
+	 * @return the aggregated result of the executed operations, will never be {@literal null}.
+	 * @throws BulkOperationException in case one or more operations failed.
+	 */
+	BulkWriteResult execute();
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.util.Assert;
+
+import com.mongodb.WriteResult;
+
+/**
+ * Aggregated result of executing {@link BulkOperations}.
+ */
+public class BulkWriteResult {
+
+	private final BulkMode mode;
+	private final int insertedCount;
+	private final int updatedCount;
+	private final int removedCount;
+	private final List<WriteResult> writeResults;
+
+	/**
+	 * Creates a new {@link BulkWriteResult}.
+	 *
+	 * @param mode must not be {@literal null}.
+	 * @param insertedCount the number of documents inserted.
+	 * @param updatedCount the number of documents updated or upserted, {@literal -1} if unknown.
+	 * @param removedCount the number of documents removed, {@literal -1} if unknown.
+	 * @param writeResults the {@link WriteResult}s of the individual operations in execution order, must not be
+	 *          {@literal null}.
+	 */
+	public BulkWriteResult(BulkMode mode, int insertedCount, int updatedCount, int removedCount,
+			List<WriteResult> writeResults) {
+
+		Assert.notNull(mode);
+		Assert.notNull(writeResults);
+
+		this.mode = mode;
+		this.insertedCount = insertedCount;
+		this.updatedCount = updatedCount;
+		this.removedCount = removedCount;
+		this.writeResults = Collections.unmodifiableList(writeResults);
+	}
+
+	/**
+	 * Returns the {@link BulkMode} the operations were executed in.
+	 *
+	 * @return
+	 */
+	public BulkMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Returns the number of documents inserted.
+	 *
+	 * @return
+	 */
+	public int getInsertedCount() {
+		return insertedCount;
+	}
+
+	/**
+	 * Returns the number of documents updated or upserted or {@literal -1} if unknown as the operations were sent
+	 * unacknowledged.
+	 *
+	 * @return
+	 */
+	public int getUpdatedCount() {
+		return updatedCount;
+	}
+
+	/**
+	 * Returns the number of documents removed or {@literal -1} if unknown as the operations were sent unacknowledged.
+	 *
+	 * @return
+	 */
+	public int getRemovedCount() {
+		return removedCount;
+	}
+
+	/**
+	 * Returns the {@link WriteResult}s of the individual database calls in execution order (consecutive inserts are sent
+	 * with a single call).
+	 *
+	 * @return
+	 */
+	public List<WriteResult> getWriteResults() {
+		return writeResults;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("BulkWriteResult: mode %s, inserted %s, updated %s, removed %s", mode, insertedCount,
+				updatedCount, removedCount);
+	}
+}
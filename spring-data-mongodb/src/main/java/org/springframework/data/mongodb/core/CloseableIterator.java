@@ -0,0 +1,33 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Iterator;
+
+/**
+ * An {@link Iterator} that is backed by a server side resource (usually a {@link com.mongodb.DBCursor}) that needs to
+ * be released once iteration is done. Implementations release the resource automatically once the iterator is
+ * exhausted or an error occurs. Clients abandoning iteration early have to call {@link #close()} themselves.
+ *
+ * @param <T>
+ */
+public interface CloseableIterator<T> extends Iterator<T> {
+
+	/**
+	 * Releases the underlying resource. Calling {@link #close()} on an already closed iterator is a no-op.
+	 */
+	void close();
+}
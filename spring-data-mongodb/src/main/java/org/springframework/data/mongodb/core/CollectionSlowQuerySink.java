@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.util.Assert;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.MongoException;
+
+/**
+ * {@link SlowQuerySink} inserting {@link SlowQuery}s into a collection. Use a capped collection to bound its size.
+ * Query documents are stored as their JSON representation as they can contain operators not allowed as field names.
+ */
+public class CollectionSlowQuerySink implements SlowQuerySink {
+
+	private final MongoOperations operations;
+	private final String collectionName;
+
+	/**
+	 * Creates a new {@link CollectionSlowQuerySink} inserting into the given collection.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 */
+	public CollectionSlowQuerySink(MongoOperations operations, String collectionName) {
+
+		Assert.notNull(operations, "MongoOperations must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		this.operations = operations;
+		this.collectionName = collectionName;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.SlowQuerySink#write(org.springframework.data.mongodb.core.SlowQuery)
+	 */
+	public void write(SlowQuery slowQuery) {
+
+		final DBObject dbObject = new BasicDBObject();
+		dbObject.put("ts", slowQuery.getTimestamp());
+		dbObject.put("collection", slowQuery.getCollectionName());
+		dbObject.put("operation", slowQuery.getOperation().name());
+		dbObject.put("millis", slowQuery.getElapsedTime(TimeUnit.MILLISECONDS));
+		dbObject.put("query", SerializationUtils.serializeToJsonSafely(slowQuery.getQuery()));
+		dbObject.put("fields", SerializationUtils.serializeToJsonSafely(slowQuery.getFields()));
+		dbObject.put("sort", SerializationUtils.serializeToJsonSafely(slowQuery.getSort()));
+		dbObject.put("hint", slowQuery.getHint());
+
+		if (slowQuery.getExplain() != null) {
+			dbObject.put("plan", SerializationUtils.serializeToJsonSafely(slowQuery.getExplain()));
+			dbObject.put("nscanned", slowQuery.getScanned());
+			dbObject.put("n", slowQuery.getReturned());
+		}
+
+		operations.execute(collectionName, new CollectionCallback<Void>() {
+			public Void doInCollection(DBCollection collection) throws MongoException, DataAccessException {
+				collection.insert(dbObject);
+				return null;
+			}
+		});
+	}
+}
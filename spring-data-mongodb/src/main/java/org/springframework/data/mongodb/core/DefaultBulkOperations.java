@@ -0,0 +1,413 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.util.Assert;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DB;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.MongoException;
+import com.mongodb.WriteConcern;
+import com.mongodb.WriteResult;
+
+/**
+ * Default implementation of {@link BulkOperations}. Queries, updates and documents are mapped when added so that
+ * {@link #execute()} only has to talk to the database. As the driver does not provide a bulk write command all
+ * operations are sent individually but unacknowledged over a single connection, consecutive inserts are merged into a
+ * single batch insert. Errors are checked with a single getLastError per run of operations of the same kind in
+ * {@link BulkMode#ORDERED} and per batch of operations in {@link BulkMode#UNORDERED}. Ids generated for inserted domain
+ * objects are not populated back into them.
+ */
+public class DefaultBulkOperations implements BulkOperations {
+
+	private static final String ID = "_id";
+	private static final int DEFAULT_BATCH_SIZE = 1000;
+
+	private final MongoOperations mongoOperations;
+	private final BulkMode bulkMode;
+	private final String collectionName;
+	private final MongoConverter converter;
+	private final QueryMapper mapper;
+	private final MongoPersistentEntity<?> entity;
+	private final List<BulkOperation> operations = new ArrayList<BulkOperation>();
+
+	private WriteConcern writeConcern = WriteConcern.SAFE;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	/**
+	 * Creates a new {@link DefaultBulkOperations} for the given collection.
+	 *
+	 * @param mongoOperations must not be {@literal null}.
+	 * @param bulkMode must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @param entityClass the domain type to map queries and updates against, can be {@literal null}.
+	 */
+	public DefaultBulkOperations(MongoOperations mongoOperations, BulkMode bulkMode, String collectionName,
+			Class<?> entityClass) {
+
+		Assert.notNull(mongoOperations, "MongoOperations must not be null!");
+		Assert.notNull(bulkMode, "BulkMode must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		this.mongoOperations = mongoOperations;
+		this.bulkMode = bulkMode;
+		this.collectionName = collectionName;
+		this.converter = mongoOperations.getConverter();
+		this.mapper = new QueryMapper(converter);
+		this.entity = entityClass == null ? null : converter.getMappingContext().getPersistentEntity(entityClass);
+	}
+
+	/**
+	 * Configures the {@link WriteConcern} to issue the getLastError checks with, the operations themselves are sent
+	 * unacknowledged. Defaults to {@link WriteConcern#SAFE}.
+	 *
+	 * @param writeConcern must not be {@literal null}.
+	 */
+	public void setWriteConcern(WriteConcern writeConcern) {
+
+		Assert.notNull(writeConcern, "WriteConcern must not be null!");
+		this.writeConcern = writeConcern;
+	}
+
+	/**
+	 * Configures the number of operations after which {@link BulkMode#UNORDERED} execution checks for errors. As only the
+	 * last error of a batch is reported, smaller batches report more of the errors at the price of additional round
+	 * trips. Defaults to 1000.
+	 *
+	 * @param batchSize must be greater than zero.
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+		this.batchSize = batchSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.BulkOperations#insert(java.lang.Object)
+	 */
+	public BulkOperations insert(Object document) {
+
+		Assert.notNull(document, "Document must not be null!");
+
+		addInsert(toDbObject(document));
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.BulkOperations#save(java.lang.Object)
+	 */
+	public BulkOperations save(Object document) {
+
+		Assert.notNull(document, "Document must not be null!");
+
+		DBObject dbObject = toDbObject(document);
+		Object id = dbObject.get(ID);
+
+		if (id == null) {
+			addInsert(dbObject);
+		} else {
+			operations.add(new UpdateOperation(new BasicDBObject(ID, id), dbObject, true, false));
+		}
+
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.BulkOperations#insert(java.util.Collection)
+	 */
+	public BulkOperations insert(Collection<? extends Object> documents) {
+
+		Assert.notNull(documents, "Documents must not be null!");
+
+		for (Object document : documents) {
+			insert(document);
+		}
+
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.BulkOperations#updateFirst(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update)
+	 */
+	public BulkOperations updateFirst(Query query, Update update) {
+		return addUpdate(query, update, false, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.BulkOperations#updateMulti(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update)
+	 */
+	public BulkOperations updateMulti(Query query, Update update) {
+		return addUpdate(query, update, false, true);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.BulkOperations#upsert(org.springframework.data.mongodb.core.query.Query, org.springframework.data.mongodb.core.query.Update)
+	 */
+	public BulkOperations upsert(Query query, Update update) {
+		return addUpdate(query, update, true, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.BulkOperations#remove(org.springframework.data.mongodb.core.query.Query)
+	 */
+	public BulkOperations remove(Query query) {
+
+		Assert.notNull(query, "Query must not be null!");
+
+		operations.add(new RemoveOperation(mapper.getMappedObject(query.getQueryObject(), entity)));
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.BulkOperations#execute()
+	 */
+	public BulkWriteResult execute() {
+
+		final List<BulkOperation> toExecute = new ArrayList<BulkOperation>(operations);
+		operations.clear();
+
+		return mongoOperations.execute(collectionName, new CollectionCallback<BulkWriteResult>() {
+			public BulkWriteResult doInCollection(DBCollection collection) throws MongoException, DataAccessException {
+
+				DB db = collection.getDB();
+
+				try {
+					db.requestStart();
+					return bulkMode == BulkMode.ORDERED ? executeOrdered(collection, toExecute) : executeUnordered(collection,
+							toExecute);
+				} finally {
+					db.requestDone();
+				}
+			}
+		});
+	}
+
+	private BulkWriteResult executeOrdered(DBCollection collection, List<BulkOperation> toExecute) {
+
+		Counts counts = new Counts(toExecute.size());
+
+		for (int i = 0; i < toExecute.size(); i++) {
+
+			BulkOperation operation = toExecute.get(i);
+			counts.add(operation, operation.execute(collection, WriteConcern.NONE));
+
+			boolean lastOfRun = i + 1 == toExecute.size() || !toExecute.get(i + 1).getClass().equals(operation.getClass());
+
+			if (lastOfRun) {
+
+				MongoException error = checkLastError(collection);
+
+				if (error != null) {
+					throw new BulkOperationException(Collections.singletonList(error), counts.toResult(bulkMode));
+				}
+
+				counts.acknowledge();
+			}
+		}
+
+		return counts.toResult(bulkMode);
+	}
+
+	private BulkWriteResult executeUnordered(DBCollection collection, List<BulkOperation> toExecute) {
+
+		Counts counts = new Counts(toExecute.size());
+		List<MongoException> errors = new ArrayList<MongoException>();
+
+		for (int i = 0; i < toExecute.size(); i++) {
+
+			BulkOperation operation = toExecute.get(i);
+			counts.add(operation, operation.execute(collection, WriteConcern.NONE));
+
+			if ((i + 1) % batchSize == 0 || i + 1 == toExecute.size()) {
+
+				MongoException error = checkLastError(collection);
+
+				if (error == null) {
+					counts.acknowledge();
+				} else {
+					errors.add(error);
+					counts.discard();
+				}
+			}
+		}
+
+		if (!errors.isEmpty()) {
+			throw new BulkOperationException(errors, counts.toResult(bulkMode));
+		}
+
+		return counts.toResult(bulkMode);
+	}
+
+	/**
+	 * Issues a getLastError on the pinned connection and returns the error of the last operation sent, if any.
+	 *
+	 * @param collection
+	 * @return the {@link MongoException} reported or {@literal null} if the last operation succeeded.
+	 */
+	private MongoException checkLastError(DBCollection collection) {
+
+		try {
+			collection.getDB().getLastError(writeConcern).throwOnError();
+			return null;
+		} catch (MongoException e) {
+			return e;
+		}
+	}
+
+	private BulkOperations addUpdate(Query query, Update update, boolean upsert, boolean multi) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(update, "Update must not be null!");
+
+		DBObject queryObject = mapper.getMappedObject(query.getQueryObject(), entity);
+		DBObject updateObject = mapper.getMappedObject(update.getUpdateObject(), entity);
+
+		operations.add(new UpdateOperation(queryObject, updateObject, upsert, multi));
+		return this;
+	}
+
+	private DBObject toDbObject(Object document) {
+
+		if (document instanceof DBObject) {
+			return (DBObject) document;
+		}
+
+		DBObject dbObject = new BasicDBObject();
+		converter.write(document, dbObject);
+		return dbObject;
+	}
+
+	private void addInsert(DBObject dbObject) {
+
+		BulkOperation last = operations.isEmpty() ? null : operations.get(operations.size() - 1);
+
+		if (last instanceof InsertOperation) {
+			((InsertOperation) last).documents.add(dbObject);
+		} else {
+			operations.add(new InsertOperation(dbObject));
+		}
+	}
+
+	/**
+	 * A single, already mapped operation to be sent to the database.
+	 */
+	private interface BulkOperation {
+
+		WriteResult execute(DBCollection collection, WriteConcern writeConcern);
+	}
+
+	private static class InsertOperation implements BulkOperation {
+
+		private final List<DBObject> documents = new ArrayList<DBObject>();
+
+		public InsertOperation(DBObject document) {
+			this.documents.add(document);
+		}
+
+		public WriteResult execute(DBCollection collection, WriteConcern writeConcern) {
+			return collection.insert(documents, writeConcern);
+		}
+	}
+
+	private static class UpdateOperation implements BulkOperation {
+
+		private final DBObject query;
+		private final DBObject update;
+		private final boolean upsert;
+		private final boolean multi;
+
+		public UpdateOperation(DBObject query, DBObject update, boolean upsert, boolean multi) {
+			this.query = query;
+			this.update = update;
+			this.upsert = upsert;
+			this.multi = multi;
+		}
+
+		public WriteResult execute(DBCollection collection, WriteConcern writeConcern) {
+			return collection.update(query, update, upsert, multi, writeConcern);
+		}
+	}
+
+	private static class RemoveOperation implements BulkOperation {
+
+		private final DBObject query;
+
+		public RemoveOperation(DBObject query) {
+			this.query = query;
+		}
+
+		public WriteResult execute(DBCollection collection, WriteConcern writeConcern) {
+			return collection.remove(query, writeConcern);
+		}
+	}
+
+	/**
+	 * Accumulates the {@link WriteResult}s and inserted document counts of the operations sent. Inserts only count once
+	 * the getLastError following them succeeded.
+	 */
+	private static class Counts {
+
+		private final List<WriteResult> results;
+		private int inserted, pending;
+
+		public Counts(int size) {
+			this.results = new ArrayList<WriteResult>(size);
+		}
+
+		public void add(BulkOperation operation, WriteResult result) {
+
+			results.add(result);
+
+			if (operation instanceof InsertOperation) {
+				pending += ((InsertOperation) operation).documents.size();
+			}
+		}
+
+		public void acknowledge() {
+			inserted += pending;
+			pending = 0;
+		}
+
+		public void discard() {
+			pending = 0;
+		}
+
+		public BulkWriteResult toResult(BulkMode mode) {
+			return new BulkWriteResult(mode, inserted, -1, -1, new ArrayList<WriteResult>(results));
+		}
+	}
+}
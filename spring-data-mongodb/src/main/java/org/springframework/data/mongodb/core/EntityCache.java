@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.List;
+
+import com.mongodb.DBObject;
+
+/**
+ * Cache for the raw documents returned by queries against collections of types annotated with
+ * {@link org.springframework.data.mongodb.core.mapping.Cached}. {@link MongoTemplate} looks up the documents by
+ * collection and a key derived from the mapped query, and converts them into entities for every read so that callers
+ * never share entity instances. Implementations have to be thread-safe.
+ *
+ * @see MongoTemplate#setEntityCache(EntityCache)
+ */
+public interface EntityCache {
+
+	/**
+	 * Returns the documents cached for the given collection and key.
+	 *
+	 * @param collectionName will never be {@literal null}.
+	 * @param key will never be {@literal null}.
+	 * @return the cached documents or {@literal null} if none are cached.
+	 */
+	List<DBObject> get(String collectionName, String key);
+
+	/**
+	 * Caches the given documents for the given collection and key.
+	 *
+	 * @param collectionName will never be {@literal null}.
+	 * @param key will never be {@literal null}.
+	 * @param documents will never be {@literal null}.
+	 */
+	void put(String collectionName, String key, List<DBObject> documents);
+
+	/**
+	 * Removes all entries cached for the given collection.
+	 *
+	 * @param collectionName will never be {@literal null}.
+	 */
+	void evict(String collectionName);
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.ObjectUtils;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * The {@link DBObject}s entities were last read from or written to the database as. Entities are tracked by identity
+ * and weakly referenced so that snapshots go away together with the entities. Allows {@link MongoTemplate} to turn a
+ * save of a tracked entity into an update of the fields that actually changed.
+ */
+class EntitySnapshots {
+
+	private final Map<IdentityKey, Snapshot> snapshots = new HashMap<IdentityKey, Snapshot>();
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<Object>();
+
+	/**
+	 * Registers the given {@link DBObject} as the state of the given entity in the given collection.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param collectionName must not be {@literal null}.
+	 * @param dbObject must not be {@literal null}.
+	 */
+	public synchronized void put(Object entity, String collectionName, DBObject dbObject) {
+
+		expungeStaleEntries();
+		snapshots.put(new IdentityKey(entity, queue), new Snapshot(collectionName, dbObject));
+	}
+
+	/**
+	 * Returns the {@link DBObject} the given entity was last read from or written to the given collection as.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param collectionName must not be {@literal null}.
+	 * @return the snapshot or {@literal null} if the entity is not tracked for the given collection.
+	 */
+	public synchronized DBObject get(Object entity, String collectionName) {
+
+		expungeStaleEntries();
+		Snapshot snapshot = snapshots.get(new IdentityKey(entity, null));
+
+		return snapshot == null || !snapshot.collectionName.equals(collectionName) ? null : snapshot.dbObject;
+	}
+
+	/**
+	 * Stops tracking the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 */
+	public synchronized void remove(Object entity) {
+		snapshots.remove(new IdentityKey(entity, null));
+	}
+
+	/**
+	 * Returns the number of entities currently tracked.
+	 *
+	 * @return
+	 */
+	public synchronized int size() {
+
+		expungeStaleEntries();
+		return snapshots.size();
+	}
+
+	/**
+	 * Creates a {@code $set}/{@code $unset} update turning the given snapshot into the given {@link DBObject}. Nested
+	 * documents are compared field by field, all other values (including arrays) are replaced as a whole if they differ.
+	 *
+	 * @param snapshot must not be {@literal null}.
+	 * @param dbObject must not be {@literal null}.
+	 * @return the update or an empty {@link DBObject} if both are equal.
+	 */
+	static DBObject diff(DBObject snapshot, DBObject dbObject) {
+
+		DBObject set = new BasicDBObject();
+		DBObject unset = new BasicDBObject();
+
+		diff(null, snapshot, dbObject, set, unset);
+
+		DBObject update = new BasicDBObject();
+
+		if (!set.keySet().isEmpty()) {
+			update.put("$set", set);
+		}
+
+		if (!unset.keySet().isEmpty()) {
+			update.put("$unset", unset);
+		}
+
+		return update;
+	}
+
+	private static void diff(String prefix, DBObject snapshot, DBObject dbObject, DBObject set, DBObject unset) {
+
+		for (String key : dbObject.keySet()) {
+
+			String path = prefix == null ? key : prefix + "." + key;
+			Object value = dbObject.get(key);
+
+			if (!snapshot.containsField(key)) {
+				set.put(path, value);
+				continue;
+			}
+
+			Object original = snapshot.get(key);
+
+			if (isDocument(value) && isDocument(original)) {
+				diff(path, (DBObject) original, (DBObject) value, set, unset);
+			} else if (!ObjectUtils.nullSafeEquals(original, value)) {
+				set.put(path, value);
+			}
+		}
+
+		for (String key : snapshot.keySet()) {
+			if (!dbObject.containsField(key)) {
+				unset.put(prefix == null ? key : prefix + "." + key, 1);
+			}
+		}
+	}
+
+	private static boolean isDocument(Object value) {
+		return value instanceof DBObject && !(value instanceof List);
+	}
+
+	private void expungeStaleEntries() {
+
+		Reference<?> reference;
+
+		while ((reference = queue.poll()) != null) {
+			snapshots.remove(reference);
+		}
+	}
+
+	private static class Snapshot {
+
+		private final String collectionName;
+		private final DBObject dbObject;
+
+		public Snapshot(String collectionName, DBObject dbObject) {
+			this.collectionName = collectionName;
+			this.dbObject = dbObject;
+		}
+	}
+
+	/**
+	 * Weak reference to an entity comparing by the identity of the entity.
+	 */
+	private static class IdentityKey extends WeakReference<Object> {
+
+		private final int hashCode;
+
+		public IdentityKey(Object entity, ReferenceQueue<Object> queue) {
+			super(entity, queue);
+			this.hashCode = System.identityHashCode(entity);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof IdentityKey)) {
+				return false;
+			}
+
+			Object entity = get();
+			return entity != null && entity == ((IdentityKey) obj).get();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
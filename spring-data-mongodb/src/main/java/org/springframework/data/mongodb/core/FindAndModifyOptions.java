@@ -15,6 +15,10 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
 public class FindAndModifyOptions {
 
 	boolean returnNew;
@@ -23,6 +27,8 @@ public class FindAndModifyOptions {
 
 	boolean remove;
 
+	long maxTimeMsec;
+
 	/**
 	 * Static factory method to create a FindAndModifyOptions instance
 	 * 
@@ -47,6 +53,22 @@ public class FindAndModifyOptions {
 		return this;
 	}
 
+	/**
+	 * Limits the time the server may spend on the operation. Servers not supporting {@code maxTimeMS} ignore the limit.
+	 * 
+	 * @param maxTime the time budget, {@literal 0} for none.
+	 * @param unit must not be {@literal null}.
+	 * @return
+	 */
+	public FindAndModifyOptions maxTime(long maxTime, TimeUnit unit) {
+
+		Assert.isTrue(maxTime >= 0, "Max time must not be negative!");
+		Assert.notNull(unit, "TimeUnit must not be null!");
+
+		this.maxTimeMsec = unit.toMillis(maxTime);
+		return this;
+	}
+
 	public boolean isReturnNew() {
 		return returnNew;
 	}
@@ -59,4 +81,8 @@ public class FindAndModifyOptions {
 		return remove;
 	}
 
+	public long getMaxTimeMsec() {
+		return maxTimeMsec;
+	}
+
 }
@@ -0,0 +1,352 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.springframework.data.mongodb.core.query.Criteria.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.Assert;
+
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.MongoException;
+
+/**
+ * Coalesces concurrent {@link MongoOperations#findById(Object, Class, String)} calls for the same collection and type
+ * into a single {@code _id: { $in : [ ... ] }} query. The first caller opens a batch and waits for the configured batch
+ * window (or until the batch reached its maximum size) while other callers add their ids to it. It then executes the
+ * query and hands the raw documents to all waiting callers, each of which converts its own document into an entity.
+ * Duplicate ids are only queried once but every caller gets its own entity instance.
+ * <p/>
+ * As every batch waits for the batch window, a single uncontended lookup takes up to the window longer than a plain
+ * {@link MongoOperations#findById(Object, Class)}. Keep the window short and only use this for lookups that are
+ * issued concurrently in large numbers. Types without an id property are looked up directly.
+ */
+public class FindByIdBatcher {
+
+	public static final long DEFAULT_BATCH_WINDOW_MICROS = 1000;
+	public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+	private static final String ID = "_id";
+
+	private final MongoOperations operations;
+	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
+	private final QueryMapper mapper;
+
+	private final Map<BatchKey, Batch> batches = new HashMap<BatchKey, Batch>();
+
+	private volatile long batchWindowNanos = TimeUnit.MICROSECONDS.toNanos(DEFAULT_BATCH_WINDOW_MICROS);
+	private volatile int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+	private final AtomicLong requestCount = new AtomicLong();
+	private final AtomicLong queryCount = new AtomicLong();
+
+	/**
+	 * Creates a new {@link FindByIdBatcher} issuing the batched queries through the given {@link MongoOperations}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 */
+	public FindByIdBatcher(MongoOperations operations) {
+
+		Assert.notNull(operations, "MongoOperations must not be null!");
+
+		MongoConverter converter = operations.getConverter();
+
+		this.operations = operations;
+		this.mappingContext = converter.getMappingContext();
+		this.mapper = new QueryMapper(converter);
+	}
+
+	/**
+	 * Configures how long a batch collects ids before it is executed. Defaults to
+	 * {@value #DEFAULT_BATCH_WINDOW_MICROS} microseconds.
+	 *
+	 * @param window must not be negative.
+	 * @param unit must not be {@literal null}.
+	 */
+	public void setBatchWindow(long window, TimeUnit unit) {
+
+		Assert.isTrue(window >= 0, "Batch window must not be negative!");
+		Assert.notNull(unit, "TimeUnit must not be null!");
+
+		this.batchWindowNanos = unit.toNanos(window);
+	}
+
+	/**
+	 * Configures the number of distinct ids after which a batch is executed right away. Defaults to
+	 * {@value #DEFAULT_MAX_BATCH_SIZE}.
+	 *
+	 * @param maxBatchSize must be positive.
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be positive!");
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Looks up the entity with the given id from the collection of the given type.
+	 *
+	 * @see MongoOperations#findById(Object, Class)
+	 * @param id must not be {@literal null}.
+	 * @param entityClass must not be {@literal null}.
+	 * @return the entity or {@literal null} if none found.
+	 */
+	public <T> T findById(Object id, Class<T> entityClass) {
+
+		Assert.notNull(entityClass, "Entity class must not be null!");
+		return findById(id, entityClass, operations.getCollectionName(entityClass));
+	}
+
+	/**
+	 * Looks up the entity with the given id from the given collection.
+	 *
+	 * @see MongoOperations#findById(Object, Class, String)
+	 * @param id must not be {@literal null}.
+	 * @param entityClass must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 * @return the entity or {@literal null} if none found.
+	 */
+	public <T> T findById(Object id, Class<T> entityClass, String collectionName) {
+
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(entityClass, "Entity class must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		requestCount.incrementAndGet();
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+		MongoPersistentProperty idProperty = entity.getIdProperty();
+
+		if (idProperty == null) {
+			queryCount.incrementAndGet();
+			return operations.findById(id, entityClass, collectionName);
+		}
+
+		BatchKey key = new BatchKey(collectionName, entityClass);
+		Object mappedId = mapper.convertId(id);
+		Batch batch;
+		boolean leader = false;
+
+		synchronized (batches) {
+
+			batch = batches.get(key);
+
+			if (batch == null) {
+				batch = new Batch();
+				batches.put(key, batch);
+				leader = true;
+			}
+
+			if (batch.ids.put(mappedId, id) != null) {
+				batch.shared.add(mappedId);
+			}
+
+			if (batch.ids.size() >= maxBatchSize) {
+				batches.remove(key);
+				batch.full.countDown();
+			}
+		}
+
+		if (leader) {
+			awaitUninterruptibly(batch.full, batchWindowNanos);
+
+			synchronized (batches) {
+				if (batches.get(key) == batch) {
+					batches.remove(key);
+				}
+			}
+
+			execute(batch, entity, idProperty, collectionName);
+		} else {
+			awaitUninterruptibly(batch.done, -1);
+		}
+
+		if (batch.failure != null) {
+			throw batch.failure;
+		}
+
+		DBObject document = batch.results.get(mappedId);
+
+		if (document == null) {
+			return null;
+		}
+
+		// callers looking up the same id must not share the document as listeners might modify it
+		return read(batch.shared.contains(mappedId) ? SerializationUtils.deepCopy(document) : document, entityClass,
+				collectionName);
+	}
+
+	/**
+	 * Returns the number of lookups requested.
+	 *
+	 * @return
+	 */
+	public long getRequestCount() {
+		return requestCount.get();
+	}
+
+	/**
+	 * Returns the number of queries issued to serve the requested lookups.
+	 *
+	 * @return
+	 */
+	public long getQueryCount() {
+		return queryCount.get();
+	}
+
+	private void execute(Batch batch, MongoPersistentEntity<?> entity, MongoPersistentProperty idProperty,
+			String collectionName) {
+
+		try {
+
+			queryCount.incrementAndGet();
+
+			Query query = new Query(where(idProperty.getName()).in(new ArrayList<Object>(batch.ids.values())));
+			DBObject mappedQuery = mapper.getMappedObject(query.getQueryObject(), entity);
+
+			for (DBObject document : findDocuments(mappedQuery, entity.getType(), collectionName)) {
+				batch.results.put(document.get(ID), document);
+			}
+
+		} catch (RuntimeException e) {
+			batch.failure = e;
+		} finally {
+			batch.done.countDown();
+		}
+	}
+
+	private List<DBObject> findDocuments(final DBObject mappedQuery, Class<?> entityClass, String collectionName) {
+
+		if (operations instanceof MongoTemplate) {
+			return ((MongoTemplate) operations).findDocuments(mappedQuery, entityClass, collectionName);
+		}
+
+		return operations.execute(collectionName, new CollectionCallback<List<DBObject>>() {
+			public List<DBObject> doInCollection(DBCollection collection) throws MongoException, DataAccessException {
+				return collection.find(mappedQuery).toArray();
+			}
+		});
+	}
+
+	private <T> T read(DBObject document, Class<T> entityClass, String collectionName) {
+
+		if (operations instanceof MongoTemplate) {
+			return ((MongoTemplate) operations).readDocument(document, entityClass, collectionName);
+		}
+
+		return operations.getConverter().read(entityClass, document);
+	}
+
+	/**
+	 * Waits for the given latch for the given number of nanoseconds (forever for a negative value), deferring
+	 * interruption until the wait is over.
+	 */
+	private static void awaitUninterruptibly(CountDownLatch latch, long nanos) {
+
+		boolean interrupted = false;
+		long deadline = System.nanoTime() + nanos;
+
+		try {
+			for (;;) {
+				try {
+					if (nanos < 0) {
+						latch.await();
+					} else {
+						latch.await(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+					}
+					return;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Ids collected for a single query and the query's outcome. The documents found are published to the waiting callers
+	 * through {@link #done}. Ids requested by more than a single caller are kept in {@link #shared}.
+	 */
+	private static class Batch {
+
+		private final Map<Object, Object> ids = new LinkedHashMap<Object, Object>();
+		private final Set<Object> shared = new HashSet<Object>();
+		private final Map<Object, DBObject> results = new HashMap<Object, DBObject>();
+		private final CountDownLatch full = new CountDownLatch(1);
+		private final CountDownLatch done = new CountDownLatch(1);
+		private RuntimeException failure;
+	}
+
+	private static class BatchKey {
+
+		private final String collectionName;
+		private final Class<?> entityClass;
+
+		public BatchKey(String collectionName, Class<?> entityClass) {
+			this.collectionName = collectionName;
+			this.entityClass = entityClass;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof BatchKey)) {
+				return false;
+			}
+
+			BatchKey that = (BatchKey) obj;
+			return this.collectionName.equals(that.collectionName) && this.entityClass.equals(that.entityClass);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * collectionName.hashCode() + entityClass.hashCode();
+		}
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link SlowQuerySink} writing {@link SlowQuery}s to the log at warn level.
+ */
+public class LoggingSlowQuerySink implements SlowQuerySink {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LoggingSlowQuerySink.class);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.SlowQuerySink#write(org.springframework.data.mongodb.core.SlowQuery)
+	 */
+	public void write(SlowQuery slowQuery) {
+		LOGGER.warn(slowQuery.toString());
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+import com.mongodb.DBObject;
+
+/**
+ * {@link EntityCache} keeping up to a configurable number of entries per collection in memory, evicting the least
+ * recently used ones first. Entries can additionally expire after a fixed time to live.
+ */
+public class LruEntityCache implements EntityCache {
+
+	public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	private final ConcurrentMap<String, Region> regions = new ConcurrentHashMap<String, Region>();
+	private final int maxEntries;
+	private final long timeToLiveNanos;
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	/**
+	 * Creates a new {@link LruEntityCache} keeping up to {@value #DEFAULT_MAX_ENTRIES} entries per collection without
+	 * expiring them.
+	 */
+	public LruEntityCache() {
+		this(DEFAULT_MAX_ENTRIES, 0, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Creates a new {@link LruEntityCache}.
+	 *
+	 * @param maxEntries the maximum number of entries per collection, must be positive.
+	 * @param timeToLive the time after which an entry expires, {@literal 0} for no expiry.
+	 * @param unit must not be {@literal null}.
+	 */
+	public LruEntityCache(int maxEntries, long timeToLive, TimeUnit unit) {
+
+		Assert.isTrue(maxEntries > 0, "Max entries must be positive!");
+		Assert.isTrue(timeToLive >= 0, "Time to live must not be negative!");
+		Assert.notNull(unit, "TimeUnit must not be null!");
+
+		this.maxEntries = maxEntries;
+		this.timeToLiveNanos = unit.toNanos(timeToLive);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.EntityCache#get(java.lang.String, java.lang.String)
+	 */
+	public List<DBObject> get(String collectionName, String key) {
+
+		Region region = regions.get(collectionName);
+		List<DBObject> documents = region == null ? null : region.get(key);
+
+		if (documents == null) {
+			missCount.incrementAndGet();
+		} else {
+			hitCount.incrementAndGet();
+		}
+
+		return documents;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.EntityCache#put(java.lang.String, java.lang.String, java.util.List)
+	 */
+	public void put(String collectionName, String key, List<DBObject> documents) {
+
+		Region region = regions.get(collectionName);
+
+		if (region == null) {
+			Region newRegion = new Region();
+			region = regions.putIfAbsent(collectionName, newRegion);
+			region = region == null ? newRegion : region;
+		}
+
+		region.put(key, documents);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.EntityCache#evict(java.lang.String)
+	 */
+	public void evict(String collectionName) {
+		regions.remove(collectionName);
+	}
+
+	/**
+	 * Returns the number of lookups that found a cached entry.
+	 *
+	 * @return
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns the number of lookups that did not find a cached entry.
+	 *
+	 * @return
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Returns the number of entries evicted because the maximum number of entries was reached.
+	 *
+	 * @return
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * Returns the number of entries currently cached, including expired ones not yet removed.
+	 *
+	 * @return
+	 */
+	public int getSize() {
+
+		int size = 0;
+
+		for (Region region : regions.values()) {
+			size += region.size();
+		}
+
+		return size;
+	}
+
+	/**
+	 * The entries of a single collection in access order.
+	 */
+	private class Region {
+
+		@SuppressWarnings("serial")
+		private final Map<String, CacheEntry> entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+			 */
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+
+				if (size() > maxEntries) {
+					evictionCount.incrementAndGet();
+					return true;
+				}
+
+				return false;
+			}
+		};
+
+		public synchronized List<DBObject> get(String key) {
+
+			CacheEntry entry = entries.get(key);
+
+			if (entry == null) {
+				return null;
+			}
+
+			if (entry.isExpired()) {
+				entries.remove(key);
+				return null;
+			}
+
+			return entry.documents;
+		}
+
+		public synchronized void put(String key, List<DBObject> documents) {
+			entries.put(key, new CacheEntry(documents));
+		}
+
+		public synchronized int size() {
+			return entries.size();
+		}
+	}
+
+	private class CacheEntry {
+
+		private final List<DBObject> documents;
+		private final long createdNanos = System.nanoTime();
+
+		public CacheEntry(List<DBObject> documents) {
+			this.documents = documents;
+		}
+
+		public boolean isExpired() {
+			return timeToLiveNanos > 0 && System.nanoTime() - createdNanos > timeToLiveNanos;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.util.ReflectionUtils;
+
+import com.mongodb.DBObject;
+
+/**
+ * The {@link MongoMappingEvent} types {@link ApplicationListener}s are registered for. Allows {@link MongoTemplate} to
+ * skip creating events nobody listens to. Listener types are inspected without instantiating listener beans.
+ * {@link AbstractMongoEventListener}s only count as subscribed to the event types whose callback methods they
+ * override. Listeners whose event type cannot be determined are considered to listen to all events.
+ */
+class MappingEventSubscriptions {
+
+	static final MappingEventSubscriptions NONE = new MappingEventSubscriptions(Collections.<Class<?>> emptySet());
+
+	private static final List<Class<?>> EVENT_TYPES = Arrays.<Class<?>> asList(BeforeConvertEvent.class,
+			BeforeSaveEvent.class, AfterSaveEvent.class, AfterLoadEvent.class, AfterConvertEvent.class);
+
+	private final Set<Class<?>> subscribedEventTypes;
+
+	private MappingEventSubscriptions(Set<Class<?>> subscribedEventTypes) {
+		this.subscribedEventTypes = subscribedEventTypes;
+	}
+
+	/**
+	 * Inspects the listeners of the given {@link ApplicationContext} and its ancestors.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @return
+	 */
+	static MappingEventSubscriptions of(ApplicationContext context) {
+
+		Set<Class<?>> eventTypes = new HashSet<Class<?>>();
+
+		for (ApplicationContext current = context; current != null; current = current.getParent()) {
+
+			for (String name : current.getBeanNamesForType(ApplicationListener.class, true, false)) {
+				addEventTypesFor(current.getType(name), eventTypes);
+			}
+
+			if (current instanceof AbstractApplicationContext) {
+				for (ApplicationListener<?> listener : ((AbstractApplicationContext) current).getApplicationListeners()) {
+					addEventTypesFor(listener.getClass(), eventTypes);
+				}
+			}
+		}
+
+		return new MappingEventSubscriptions(eventTypes);
+	}
+
+	/**
+	 * Returns whether any listener is registered for the given event type.
+	 *
+	 * @param eventType
+	 * @return
+	 */
+	boolean hasSubscribers(Class<?> eventType) {
+		return subscribedEventTypes.contains(eventType);
+	}
+
+	/**
+	 * Returns whether any listener is registered for at least one of the {@link MongoMappingEvent} types.
+	 *
+	 * @return
+	 */
+	boolean hasSubscribers() {
+		return !subscribedEventTypes.isEmpty();
+	}
+
+	private static void addEventTypesFor(Class<?> listenerType, Set<Class<?>> eventTypes) {
+
+		if (listenerType == null || SmartApplicationListener.class.isAssignableFrom(listenerType)) {
+			eventTypes.addAll(EVENT_TYPES);
+			return;
+		}
+
+		if (AbstractMongoEventListener.class.isAssignableFrom(listenerType)) {
+			addIfOverridden(listenerType, "onBeforeConvert", BeforeConvertEvent.class, eventTypes, Object.class);
+			addIfOverridden(listenerType, "onBeforeSave", BeforeSaveEvent.class, eventTypes, Object.class, DBObject.class);
+			addIfOverridden(listenerType, "onAfterSave", AfterSaveEvent.class, eventTypes, Object.class, DBObject.class);
+			addIfOverridden(listenerType, "onAfterLoad", AfterLoadEvent.class, eventTypes, DBObject.class);
+			addIfOverridden(listenerType, "onAfterConvert", AfterConvertEvent.class, eventTypes, DBObject.class,
+					Object.class);
+			return;
+		}
+
+		Class<?> listenedTo = GenericTypeResolver.resolveTypeArgument(listenerType, ApplicationListener.class);
+
+		for (Class<?> eventType : EVENT_TYPES) {
+			if (listenedTo == null || listenedTo.isAssignableFrom(eventType)) {
+				eventTypes.add(eventType);
+			}
+		}
+	}
+
+	/**
+	 * Adds the given event type if the given {@link AbstractMongoEventListener} type overrides the callback method with
+	 * the given name. Generic callbacks are detected through the bridge methods the compiler creates for them.
+	 */
+	private static void addIfOverridden(Class<?> listenerType, String methodName, Class<?> eventType,
+			Set<Class<?>> eventTypes, Class<?>... parameterTypes) {
+
+		Method method = ReflectionUtils.findMethod(listenerType, methodName, parameterTypes);
+
+		if (method == null || !AbstractMongoEventListener.class.equals(method.getDeclaringClass())) {
+			eventTypes.add(eventType);
+		}
+	}
+}
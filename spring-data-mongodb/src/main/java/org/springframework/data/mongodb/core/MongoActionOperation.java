@@ -17,7 +17,8 @@ package org.springframework.data.mongodb.core;
 
 /**
  * Enumeration for operations on a collection. Used with {@link MongoAction} to help determine the WriteConcern to use
- * for a given mutating operation
+ * for a given mutating operation and with {@link OperationMetrics} to categorize timings. {@link #FIND} and
+ * {@link #COUNT} are only used for the latter.
  * 
  * @author Mark Pollack
  * @see MongoAction
@@ -25,5 +26,5 @@ package org.springframework.data.mongodb.core;
  */
 public enum MongoActionOperation {
 
-	REMOVE, UPDATE, INSERT, INSERT_LIST, SAVE
+	REMOVE, UPDATE, INSERT, INSERT_LIST, SAVE, FIND, COUNT
 }
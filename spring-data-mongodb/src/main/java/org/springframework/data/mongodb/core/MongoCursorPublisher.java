@@ -0,0 +1,218 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.Assert;
+
+/**
+ * Reactive Streams {@link Publisher} emitting the results of a {@link Query}. Every {@link Subscriber} gets its own
+ * cursor obtained through {@link MongoOperations#stream(Query, Class, String)}, which is only opened once the first
+ * element is requested. Documents are read and converted lazily and only as far as the current demand reaches, so the
+ * next batch is only fetched from the server if the {@link Subscriber} asked for more elements. Cancelling the
+ * {@link Subscription} closes the cursor.
+ * <p/>
+ * Elements are emitted on the thread calling {@link Subscription#request(long)}, which blocks while waiting for the
+ * server.
+ *
+ * @param <T>
+ */
+public class MongoCursorPublisher<T> implements Publisher<T> {
+
+	private final MongoOperations operations;
+	private final Query query;
+	private final Class<T> entityClass;
+	private final String collectionName;
+
+	/**
+	 * Creates a new {@link MongoCursorPublisher} for the given {@link Query} against the collection of the given entity
+	 * class.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param entityClass must not be {@literal null}.
+	 */
+	public MongoCursorPublisher(MongoOperations operations, Query query, Class<T> entityClass) {
+		this(operations, query, entityClass, operations == null || entityClass == null ? null : operations
+				.getCollectionName(entityClass));
+	}
+
+	/**
+	 * Creates a new {@link MongoCursorPublisher} for the given {@link Query} against the given collection.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param entityClass must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 */
+	public MongoCursorPublisher(MongoOperations operations, Query query, Class<T> entityClass, String collectionName) {
+
+		Assert.notNull(operations, "MongoOperations must not be null!");
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityClass, "Entity class must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		this.operations = operations;
+		this.query = query;
+		this.entityClass = entityClass;
+		this.collectionName = collectionName;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.reactivestreams.Publisher#subscribe(org.reactivestreams.Subscriber)
+	 */
+	public void subscribe(Subscriber<? super T> subscriber) {
+
+		if (subscriber == null) {
+			throw new NullPointerException("Subscriber must not be null!");
+		}
+
+		subscriber.onSubscribe(new CursorSubscription(subscriber));
+	}
+
+	/**
+	 * {@link Subscription} pulling elements from a {@link CloseableIterator} as far as requested. Uses the outstanding
+	 * demand as guard so that only a single thread emits elements at a time and re-entrant calls to
+	 * {@link #request(long)} from {@link Subscriber#onNext(Object)} only add demand.
+	 */
+	private class CursorSubscription implements Subscription {
+
+		private final Subscriber<? super T> subscriber;
+		private final AtomicLong demand = new AtomicLong();
+
+		private volatile CloseableIterator<T> iterator;
+		private volatile boolean cancelled;
+
+		public CursorSubscription(Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.reactivestreams.Subscription#request(long)
+		 */
+		public void request(long n) {
+
+			if (cancelled) {
+				return;
+			}
+
+			if (n <= 0) {
+				cancel();
+				subscriber.onError(new IllegalArgumentException("Number of requested elements must be positive!"));
+				return;
+			}
+
+			long previous;
+
+			for (;;) {
+
+				previous = demand.get();
+
+				if (previous == Long.MAX_VALUE) {
+					return;
+				}
+
+				long next = previous + n;
+
+				if (demand.compareAndSet(previous, next < 0 ? Long.MAX_VALUE : next)) {
+					break;
+				}
+			}
+
+			if (previous == 0) {
+				drain();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.reactivestreams.Subscription#cancel()
+		 */
+		public void cancel() {
+
+			cancelled = true;
+
+			// close right away unless a thread is currently emitting, which will close the cursor itself
+			if (demand.getAndIncrement() == 0) {
+				close();
+			}
+		}
+
+		private void drain() {
+
+			long requested = demand.get();
+
+			for (;;) {
+
+				long emitted = 0;
+
+				while (emitted != requested) {
+
+					if (cancelled) {
+						close();
+						return;
+					}
+
+					T next;
+
+					try {
+
+						if (iterator == null) {
+							iterator = operations.stream(query, entityClass, collectionName);
+						}
+
+						if (!iterator.hasNext()) {
+							cancelled = true;
+							subscriber.onComplete();
+							return;
+						}
+
+						next = iterator.next();
+
+					} catch (RuntimeException e) {
+						cancelled = true;
+						close();
+						subscriber.onError(e);
+						return;
+					}
+
+					subscriber.onNext(next);
+					emitted++;
+				}
+
+				requested = demand.addAndGet(-emitted);
+
+				if (requested == 0) {
+					return;
+				}
+			}
+		}
+
+		private void close() {
+
+			if (iterator != null) {
+				iterator.close();
+			}
+		}
+	}
+}
@@ -77,13 +77,15 @@ public abstract class MongoDbUtils {
 
 	private static DB doGetDB(Mongo mongo, String databaseName, UserCredentials credentials, boolean allowCreate) {
 
-		DbHolder dbHolder = (DbHolder) TransactionSynchronizationManager.getResource(mongo);
+		// a bound DB is only used with active synchronization, so skip the resource lookup otherwise
+		boolean synchronizationActive = TransactionSynchronizationManager.isSynchronizationActive();
+		DbHolder dbHolder = synchronizationActive ? (DbHolder) TransactionSynchronizationManager.getResource(mongo) : null;
 
 		if (dbHolder != null && !dbHolder.isEmpty()) {
 
 			DB db = null;
 
-			if (TransactionSynchronizationManager.isSynchronizationActive() && dbHolder.doesNotHoldNonDefaultDB()) {
+			if (dbHolder.doesNotHoldNonDefaultDB()) {
 
 				db = dbHolder.getDB(databaseName);
 
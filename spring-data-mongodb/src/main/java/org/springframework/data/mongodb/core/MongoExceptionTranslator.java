@@ -26,6 +26,7 @@ import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.mongodb.UncategorizedMongoDbException;
 
@@ -66,6 +67,9 @@ public class MongoExceptionTranslator implements PersistenceExceptionTranslator
 				throw new DataAccessResourceFailureException(ex.getMessage(), ex);
 			} else if (code == 10003 || code == 12001 || code == 12010 || code == 12011 || code == 12012) {
 				throw new InvalidDataAccessApiUsageException(ex.getMessage(), ex);
+			} else if (code == 50) {
+				// ExceededTimeLimit, i.e. the operation ran out of the time budget given as maxTimeMS
+				throw new QueryTimeoutException(ex.getMessage(), ex);
 			}
 			return new UncategorizedMongoDbException(ex.getMessage(), ex);
 		}
@@ -28,6 +28,8 @@ import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceResults;
 import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Keyset;
+import org.springframework.data.mongodb.core.query.KeysetPage;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -243,6 +245,25 @@ public interface MongoOperations {
 	 */
 	IndexOperations indexOps(Class<?> entityClass);
 
+	/**
+	 * Returns a new {@link BulkOperations} for the given collection.
+	 * 
+	 * @param mode the {@link BulkOperations.BulkMode} to execute the operations in, must not be {@literal null}.
+	 * @param collectionName the name of the collection to work on, must not be {@literal null} or empty.
+	 * @return {@link BulkOperations} on the named collection
+	 */
+	BulkOperations bulkOps(BulkOperations.BulkMode mode, String collectionName);
+
+	/**
+	 * Returns a new {@link BulkOperations} for the collection of the given entity class. Queries and updates are mapped
+	 * against the entity's mapping metadata.
+	 * 
+	 * @param mode the {@link BulkOperations.BulkMode} to execute the operations in, must not be {@literal null}.
+	 * @param entityClass the name of the entity class, must not be {@literal null}.
+	 * @return {@link BulkOperations} on the named collection associated with the given entity class
+	 */
+	BulkOperations bulkOps(BulkOperations.BulkMode mode, Class<?> entityClass);
+
 	/**
 	 * Query for a list of objects of type T from the collection used by the entity class.
 	 * <p/>
@@ -447,6 +468,64 @@ public interface MongoOperations {
 	 */
 	<T> List<T> find(Query query, Class<T> entityClass, String collectionName);
 
+	/**
+	 * Executes the given {@link Query} on the collection for the entity class and returns a {@link CloseableIterator}
+	 * that converts the documents into the given type one at a time while iterating over the underlying
+	 * {@link com.mongodb.DBCursor}. In contrast to {@link #find(Query, Class)} the result is never fully materialized.
+	 * <p/>
+	 * The cursor is closed once the iterator is exhausted or an error occurs. Clients that stop iterating early have to
+	 * call {@link CloseableIterator#close()}.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification, must not be {@literal null}.
+	 * @param entityClass the parameterized type of the returned elements, must not be {@literal null}.
+	 * @return the {@link CloseableIterator} over the converted objects.
+	 */
+	<T> CloseableIterator<T> stream(Query query, Class<T> entityClass);
+
+	/**
+	 * Executes the given {@link Query} on the specified collection and returns a {@link CloseableIterator} that
+	 * converts the documents into the given type one at a time while iterating over the underlying
+	 * {@link com.mongodb.DBCursor}.
+	 *
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification, must not be {@literal null}.
+	 * @param entityClass the parameterized type of the returned elements, must not be {@literal null}.
+	 * @param collectionName name of the collection to retrieve the objects from, must not be {@literal null} or empty.
+	 * @return the {@link CloseableIterator} over the converted objects.
+	 */
+	<T> CloseableIterator<T> stream(Query query, Class<T> entityClass, String collectionName);
+
+	/**
+	 * Reads the page described by the given {@link Keyset} of the results of the given {@link Query} from the collection
+	 * for the entity class. Rather than skipping the documents of previous pages, the query is restricted to the
+	 * documents sorting after the last one of the previous page, so that deep pages are as cheap to read as the first
+	 * one. The results are sorted by the sort of the {@link Query} with {@code _id} as tie-breaker, skip and limit of
+	 * the {@link Query} are ignored. The sort fields should be backed by an index and must not be {@literal null} in any
+	 * of the documents.
+	 * 
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification, must not be {@literal null}.
+	 * @param keyset the position and size of the page to read, must not be {@literal null}.
+	 * @param entityClass the parameterized type of the returned elements, must not be {@literal null}.
+	 * @return the {@link KeysetPage} containing the converted objects.
+	 */
+	<T> KeysetPage<T> findKeysetPage(Query query, Keyset keyset, Class<T> entityClass);
+
+	/**
+	 * Reads the page described by the given {@link Keyset} of the results of the given {@link Query} from the specified
+	 * collection.
+	 * 
+	 * @see #findKeysetPage(Query, Keyset, Class)
+	 * @param query the query class that specifies the criteria used to find a record and also an optional fields
+	 *          specification, must not be {@literal null}.
+	 * @param keyset the position and size of the page to read, must not be {@literal null}.
+	 * @param entityClass the parameterized type of the returned elements, must not be {@literal null}.
+	 * @param collectionName name of the collection to retrieve the objects from, must not be {@literal null} or empty.
+	 * @return the {@link KeysetPage} containing the converted objects.
+	 */
+	<T> KeysetPage<T> findKeysetPage(Query query, Keyset keyset, Class<T> entityClass, String collectionName);
+
 	/**
 	 * Returns a document with the given id mapped onto the given class. The collection the query is ran against will be
 	 * derived from the given target class as well.
@@ -20,14 +20,24 @@ import static org.springframework.data.mongodb.core.query.Criteria.*;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.bson.types.ObjectId;
 import org.slf4j.Logger;
@@ -37,7 +47,10 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
@@ -51,6 +64,7 @@ import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.BeanWrapper;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.convert.MongoWriter;
@@ -61,6 +75,7 @@ import org.springframework.data.mongodb.core.geo.GeoResults;
 import org.springframework.data.mongodb.core.geo.Metric;
 import org.springframework.data.mongodb.core.index.MongoMappingEventPublisher;
 import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexCreator;
+import org.springframework.data.mongodb.core.mapping.Cached;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
@@ -76,6 +91,10 @@ import org.springframework.data.mongodb.core.mapreduce.GroupByResults;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceOptions;
 import org.springframework.data.mongodb.core.mapreduce.MapReduceResults;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.CursorOption;
+import org.springframework.data.mongodb.core.query.Deadline;
+import org.springframework.data.mongodb.core.query.Keyset;
+import org.springframework.data.mongodb.core.query.KeysetPage;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -84,6 +103,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.ResourceUtils;
 import org.springframework.util.StringUtils;
 
+import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
 import com.mongodb.CommandResult;
 import com.mongodb.DB;
@@ -112,6 +132,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	private static final Logger LOGGER = LoggerFactory.getLogger(MongoTemplate.class);
 	private static final String ID = "_id";
 	private static final WriteResultChecking DEFAULT_WRITE_RESULT_CHECKING = WriteResultChecking.NONE;
+	private static final int DEFAULT_INSERT_BATCH_CHUNK_SIZE = 1000;
+	private static final int DEFAULT_INSERT_BATCH_CHUNK_BYTES = 16 * 1024 * 1024;
+	private static final int DEFAULT_READ_CONVERSION_BLOCK_SIZE = 100;
 	@SuppressWarnings("serial")
 	private static final List<String> ITERABLE_CLASSES = new ArrayList<String>() {
 		{
@@ -141,6 +164,55 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	 */
 	private ReadPreference readPreference = null;
 
+	/*
+	 * Upper bounds for the number of documents and the estimated number of BSON bytes sent to the server with a single
+	 * insert of a batch. Values <= 0 disable the corresponding bound.
+	 */
+	private int insertBatchChunkSize = DEFAULT_INSERT_BATCH_CHUNK_SIZE;
+	private int insertBatchChunkBytes = DEFAULT_INSERT_BATCH_CHUNK_BYTES;
+
+	/*
+	 * Executor to convert the elements of a batch insert concurrently. If null, conversion is done on the calling thread.
+	 */
+	private Executor batchConversionExecutor = null;
+	private int batchConversionParallelism = Runtime.getRuntime().availableProcessors();
+
+	/*
+	 * Executor to convert documents read by find operations while the next batch is fetched from the cursor. If null,
+	 * documents are read and converted on the calling thread.
+	 */
+	private Executor readConversionExecutor = null;
+	private int readConversionBlockSize = DEFAULT_READ_CONVERSION_BLOCK_SIZE;
+
+	/*
+	 * Prepared collections keyed by full collection name. Entries are only used for the DB instance they were obtained
+	 * from and are dropped on dropCollection(...) and setReadPreference(...).
+	 */
+	private final ConcurrentMap<String, DBCollection> preparedCollections = new ConcurrentHashMap<String, DBCollection>();
+
+	/*
+	 * Cache for query results of types annotated with @Cached. The versions are bumped on every eviction so that results
+	 * of queries running concurrently to a write are not cached.
+	 */
+	private EntityCache entityCache = null;
+	private final ConcurrentMap<Class<?>, Boolean> cachedTypes = new ConcurrentHashMap<Class<?>, Boolean>();
+	private final ConcurrentMap<String, AtomicLong> cacheVersions = new ConcurrentHashMap<String, AtomicLong>();
+
+	/*
+	 * The documents entities were read as, null if saves always replace the whole document.
+	 */
+	private volatile EntitySnapshots entitySnapshots = null;
+
+	/*
+	 * Where to record timings and throughput of the operations executed, null to not record any.
+	 */
+	private OperationMetrics operationMetrics = null;
+
+	/*
+	 * Where to record queries taking longer than a threshold, null to not record any.
+	 */
+	private SlowQueryLog slowQueryLog = null;
+
 	private final MongoConverter mongoConverter;
 	private final MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext;
 	private final MongoDbFactory mongoDbFactory;
@@ -148,6 +220,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	private final QueryMapper mapper;
 
 	private ApplicationEventPublisher eventPublisher;
+	private volatile MappingEventSubscriptions eventSubscriptions = MappingEventSubscriptions.NONE;
+	private final AtomicLong emittedEventCount = new AtomicLong();
+	private final AtomicLong emittedEventNanos = new AtomicLong();
 	private ResourceLoader resourceLoader;
 	private MongoPersistentEntityIndexCreator indexCreator;
 
@@ -241,10 +316,132 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	 * Used by @{link {@link #prepareCollection(DBCollection)} to set the {@link ReadPreference} before any operations are
 	 * performed.
 	 * 
+	 * Finds can override it per entity type through
+	 * {@link org.springframework.data.mongodb.core.mapping.Document#readPreference()} and per query through
+	 * {@link Query#readPreference(ReadPreference)}, the latter taking precedence.
+	 * 
 	 * @param readPreference
 	 */
 	public void setReadPreference(ReadPreference readPreference) {
 		this.readPreference = readPreference;
+		this.preparedCollections.clear();
+	}
+
+	/**
+	 * Configures the {@link EntityCache} to keep the results of queries against types annotated with {@link Cached}.
+	 * Cached results are evicted by every write to the collection issued through this template, writes from other
+	 * sources are not detected. Entities are read from copies of the cached documents so that event listeners cannot
+	 * modify the cache. Setting {@literal null} disables caching, which is the default.
+	 * 
+	 * @param entityCache
+	 */
+	public void setEntityCache(EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	/**
+	 * Configures whether to keep the {@link DBObject}s entities were read as or last saved as and to only write the
+	 * fields that changed since when saving such an entity again. Saving then issues a {@code $set}/{@code $unset}
+	 * update against the entity's id instead of replacing the whole document. Note that concurrent modifications of the
+	 * other fields are kept rather than overwritten then. Entities are tracked until they are garbage collected. Defaults
+	 * to {@literal false}.
+	 * 
+	 * @param dirtyTracking
+	 */
+	public void setDirtyTracking(boolean dirtyTracking) {
+		this.entitySnapshots = dirtyTracking ? new EntitySnapshots() : null;
+	}
+
+	/**
+	 * Configures the {@link OperationMetrics} to record the time spent executing finds, counts and writes per collection
+	 * as well as the time spent and the number of documents and bytes processed converting them. Callbacks handed to
+	 * {@link #execute(String, CollectionCallback)} directly are not recorded. Defaults to {@literal null}, which means
+	 * no metrics are recorded.
+	 * 
+	 * @param operationMetrics
+	 */
+	public void setOperationMetrics(OperationMetrics operationMetrics) {
+		this.operationMetrics = operationMetrics;
+	}
+
+	/**
+	 * Configures the {@link SlowQueryLog} to record finds and counts taking longer than its threshold with. Defaults to
+	 * {@literal null}, which means slow queries are not recorded.
+	 * 
+	 * @param slowQueryLog
+	 */
+	public void setSlowQueryLog(SlowQueryLog slowQueryLog) {
+		this.slowQueryLog = slowQueryLog;
+	}
+
+	/**
+	 * Configures the maximum number of documents to be inserted with a single call to the database when inserting a
+	 * batch of objects. Defaults to {@value #DEFAULT_INSERT_BATCH_CHUNK_SIZE}, values less than or equal to
+	 * {@literal 0} disable the limit.
+	 * 
+	 * @param insertBatchChunkSize
+	 */
+	public void setInsertBatchChunkSize(int insertBatchChunkSize) {
+		this.insertBatchChunkSize = insertBatchChunkSize;
+	}
+
+	/**
+	 * Configures the maximum estimated number of BSON bytes to be inserted with a single call to the database when
+	 * inserting a batch of objects. Defaults to {@value #DEFAULT_INSERT_BATCH_CHUNK_BYTES}, values less than or equal to
+	 * {@literal 0} disable the limit.
+	 * 
+	 * @param insertBatchChunkBytes
+	 */
+	public void setInsertBatchChunkBytes(int insertBatchChunkBytes) {
+		this.insertBatchChunkBytes = insertBatchChunkBytes;
+	}
+
+	/**
+	 * Configures an {@link Executor} to convert the elements of batch inserts concurrently. Conversion is CPU bound so
+	 * the {@link Executor} should usually be backed by a thread pool sized to the number of available cores. Ids are
+	 * still populated and mapping events still published in the order of the batch on the calling thread. Setting
+	 * {@literal null} (the default) converts all elements on the calling thread.
+	 * 
+	 * @param batchConversionExecutor
+	 */
+	public void setBatchConversionExecutor(Executor batchConversionExecutor) {
+		this.batchConversionExecutor = batchConversionExecutor;
+	}
+
+	/**
+	 * Configures the maximum number of tasks a batch to be converted concurrently is split into. Defaults to the number of
+	 * available processors.
+	 * 
+	 * @param batchConversionParallelism must be greater than {@literal 0}.
+	 */
+	public void setBatchConversionParallelism(int batchConversionParallelism) {
+		Assert.isTrue(batchConversionParallelism > 0, "Batch conversion parallelism must be greater than 0!");
+		this.batchConversionParallelism = batchConversionParallelism;
+	}
+
+	/**
+	 * Configures an {@link Executor} to pipeline reading and converting the results of find operations returning
+	 * {@link List}s. The calling thread then only drains the cursor while blocks of documents are converted by the
+	 * {@link Executor} concurrently, so that waiting for the next batch from the server overlaps with conversion. The
+	 * results are still returned in cursor order but {@link AfterLoadEvent}s and {@link AfterConvertEvent}s will be
+	 * published on the {@link Executor}'s threads and are only ordered within a block. Setting {@literal null} (the
+	 * default) reads and converts on the calling thread.
+	 * 
+	 * @param readConversionExecutor
+	 */
+	public void setReadConversionExecutor(Executor readConversionExecutor) {
+		this.readConversionExecutor = readConversionExecutor;
+	}
+
+	/**
+	 * Configures the number of documents handed to the read conversion {@link Executor} at a time. Defaults to
+	 * {@value #DEFAULT_READ_CONVERSION_BLOCK_SIZE}.
+	 * 
+	 * @param readConversionBlockSize must be greater than {@literal 0}.
+	 */
+	public void setReadConversionBlockSize(int readConversionBlockSize) {
+		Assert.isTrue(readConversionBlockSize > 0, "Read conversion block size must be greater than 0!");
+		this.readConversionBlockSize = readConversionBlockSize;
 	}
 
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
@@ -253,6 +450,11 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 			((ConfigurableApplicationContext) applicationContext).addApplicationListener(indexCreator);
 		}
 		eventPublisher = applicationContext;
+		eventSubscriptions = MappingEventSubscriptions.of(applicationContext);
+		if (applicationContext instanceof ConfigurableApplicationContext) {
+			((ConfigurableApplicationContext) applicationContext).addApplicationListener(new EventSubscriptionsRefresher(
+					applicationContext));
+		}
 		if (mappingContext instanceof ApplicationEventPublisherAware) {
 			((ApplicationEventPublisherAware) mappingContext).setApplicationEventPublisher(eventPublisher);
 		}
@@ -358,14 +560,50 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	}
 
 	public <T> T execute(String collectionName, CollectionCallback<T> callback) {
+		return execute(collectionName, null, callback);
+	}
+
+	/**
+	 * Executes the given {@link CollectionCallback} recording the time it takes for the given operation if
+	 * {@link OperationMetrics} are configured.
+	 * 
+	 * @param collectionName
+	 * @param operation the operation to record the execution as, {@literal null} to not record it.
+	 * @param callback
+	 * @return
+	 */
+	private <T> T execute(String collectionName, MongoActionOperation operation, CollectionCallback<T> callback) {
 
 		Assert.notNull(callback);
 
+		OperationMetrics metrics = operation == null ? null : operationMetrics;
+		long start = metrics == null ? 0 : System.nanoTime();
+
 		try {
 			DBCollection collection = getAndPrepareCollection(getDb(), collectionName);
 			return callback.doInCollection(collection);
 		} catch (RuntimeException e) {
 			throw potentiallyConvertRuntimeException(e);
+		} finally {
+			if (metrics != null) {
+				metrics.recordExecution(collectionName, operation, System.nanoTime() - start);
+			}
+		}
+	}
+
+	/**
+	 * Executes the given write {@link CollectionCallback} and evicts the results cached for the collection afterwards.
+	 * 
+	 * @param collectionName
+	 * @param operation the operation to record the execution as, {@literal null} to not record it.
+	 * @param callback
+	 * @return
+	 */
+	private <T> T executeWrite(String collectionName, MongoActionOperation operation, CollectionCallback<T> callback) {
+		try {
+			return execute(collectionName, operation, callback);
+		} finally {
+			evictCachedResults(collectionName);
 		}
 	}
 
@@ -423,9 +661,10 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	}
 
 	public void dropCollection(String collectionName) {
-		execute(collectionName, new CollectionCallback<Void>() {
+		executeWrite(collectionName, null, new CollectionCallback<Void>() {
 			public Void doInCollection(DBCollection collection) throws MongoException, DataAccessException {
 				collection.drop();
+				preparedCollections.remove(collection.getFullName());
 				if (LOGGER.isDebugEnabled()) {
 					LOGGER.debug("Dropped collection [" + collection.getFullName() + "]");
 				}
@@ -442,6 +681,29 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		return new DefaultIndexOperations(this, determineCollectionName(entityClass));
 	}
 
+	public BulkOperations bulkOps(BulkMode mode, String collectionName) {
+		return doBulkOps(mode, collectionName, null);
+	}
+
+	public BulkOperations bulkOps(BulkMode mode, Class<?> entityClass) {
+		return doBulkOps(mode, determineCollectionName(entityClass), entityClass);
+	}
+
+	private BulkOperations doBulkOps(BulkMode mode, final String collectionName, Class<?> entityClass) {
+
+		return new DefaultBulkOperations(this, mode, collectionName, entityClass) {
+
+			@Override
+			public BulkWriteResult execute() {
+				try {
+					return super.execute();
+				} finally {
+					evictCachedResults(collectionName);
+				}
+			}
+		};
+	}
+
 	// Find methods that take a Query to express the query and that return a single object.
 
 	public <T> T findOne(Query query, Class<T> entityClass) {
@@ -449,8 +711,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	}
 
 	public <T> T findOne(Query query, Class<T> entityClass, String collectionName) {
-		if (query.getSortObject() == null) {
-			return doFindOne(collectionName, query.getQueryObject(), query.getFieldsObject(), entityClass);
+		if (query.getSortObject() == null && query.getMaxTimeMsec() <= 0) {
+			return doFindOne(collectionName, query.getQueryObject(), query.getFieldsObject(), entityClass,
+					query.getReadPreference());
 		} else {
 			query.limit(1);
 			List<T> results = find(query, entityClass, collectionName);
@@ -469,6 +732,222 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		return doFind(collectionName, query.getQueryObject(), query.getFieldsObject(), entityClass, cursorPreparer);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#stream(org.springframework.data.mongodb.core.query.Query, java.lang.Class)
+	 */
+	public <T> CloseableIterator<T> stream(Query query, Class<T> entityClass) {
+		return stream(query, entityClass, determineCollectionName(entityClass));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.MongoOperations#stream(org.springframework.data.mongodb.core.query.Query, java.lang.Class, java.lang.String)
+	 */
+	public <T> CloseableIterator<T> stream(Query query, Class<T> entityClass, String collectionName) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(entityClass, "Entity class must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		return doStream(collectionName, query, entityClass, new ReadDbObjectCallback<T>(mongoConverter, entityClass));
+	}
+
+	public <T> KeysetPage<T> findKeysetPage(Query query, Keyset keyset, Class<T> entityClass) {
+		return findKeysetPage(query, keyset, entityClass, determineCollectionName(entityClass));
+	}
+
+	public <T> KeysetPage<T> findKeysetPage(final Query query, final Keyset keyset, Class<T> entityClass,
+			String collectionName) {
+
+		Assert.notNull(query, "Query must not be null!");
+		Assert.notNull(keyset, "Keyset must not be null!");
+		Assert.notNull(entityClass, "Entity class must not be null!");
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		final DBObject sort = getKeysetSort(query.getSortObject());
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+		DBObject mappedQuery = mapper.getMappedObject(query.getQueryObject(), entity);
+
+		if (!keyset.isFirst()) {
+
+			DBObject keysetCriteria = getKeysetCriteria(sort, keyset.getKeys());
+
+			if (mappedQuery.keySet().isEmpty()) {
+				mappedQuery = keysetCriteria;
+			} else {
+				BasicDBList criteria = new BasicDBList();
+				criteria.add(mappedQuery);
+				criteria.add(keysetCriteria);
+				mappedQuery = new BasicDBObject("$and", criteria);
+			}
+		}
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("find keyset page using query: " + mappedQuery + " sort: " + sort + " for class: " + entityClass
+					+ " in collection: " + collectionName);
+		}
+
+		CursorPreparer preparer = new CursorPreparer() {
+			public DBCursor prepare(DBCursor cursor) {
+				// read one more document to find out whether there's a next page
+				return new QueryCursorPreparer(query).prepare(cursor).skip(0).limit(keyset.getSize() + 1).sort(sort);
+			}
+		};
+
+		List<DBObject> documents = executeFindMultiInternal(new FindCallback(mappedQuery, includeSortKeys(
+				query.getFieldsObject(), sort), getReadPreference(entity)), preparer, IdentityDbObjectCallback.INSTANCE,
+				collectionName);
+
+		boolean hasNext = documents.size() > keyset.getSize();
+		List<DBObject> page = hasNext ? documents.subList(0, keyset.getSize()) : documents;
+
+		DbObjectCallback<T> objectCallback = trackSnapshots(new ReadDbObjectCallback<T>(mongoConverter, entityClass),
+				collectionName);
+		List<T> content = new ArrayList<T>(page.size());
+
+		for (DBObject document : page) {
+			content.add(objectCallback.doWith(document));
+		}
+
+		Keyset nextKeyset = hasNext ? new Keyset(keyset.getSize(), getKeys(sort, page.get(page.size() - 1))) : null;
+		return new KeysetPage<T>(content, keyset, nextKeyset);
+	}
+
+	/**
+	 * Returns the given sort extended by {@code _id} in the direction of the last sort field to make the order total.
+	 */
+	private static DBObject getKeysetSort(DBObject sort) {
+
+		DBObject result = new BasicDBObject();
+		Object direction = 1;
+
+		if (sort != null) {
+			for (String key : sort.keySet()) {
+				direction = sort.get(key);
+				result.put(key, direction);
+			}
+		}
+
+		if (!result.containsField(ID)) {
+			result.put(ID, direction);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Creates the criteria selecting the documents sorting after the given keys, i.e. {@code a > $a}, or
+	 * {@code a == $a && b > $b} and so on for a sort on {@code a} and {@code b}.
+	 */
+	private static DBObject getKeysetCriteria(DBObject sort, DBObject keys) {
+
+		BasicDBList clauses = new BasicDBList();
+		List<String> fields = new ArrayList<String>(sort.keySet());
+
+		for (int i = 0; i < fields.size(); i++) {
+
+			DBObject clause = new BasicDBObject();
+
+			for (String field : fields.subList(0, i)) {
+				clause.put(field, keys.get(field));
+			}
+
+			String field = fields.get(i);
+			String operator = ((Number) sort.get(field)).intValue() < 0 ? "$lt" : "$gt";
+			clause.put(field, new BasicDBObject(operator, keys.get(field)));
+			clauses.add(clause);
+		}
+
+		return clauses.size() == 1 ? (DBObject) clauses.get(0) : new BasicDBObject("$or", clauses);
+	}
+
+	/**
+	 * Makes sure the given field specification does not exclude any of the sort fields.
+	 */
+	private static DBObject includeSortKeys(DBObject fields, DBObject sort) {
+
+		if (fields == null) {
+			return null;
+		}
+
+		DBObject result = new BasicDBObject(fields.toMap());
+		boolean inclusion = false;
+
+		for (String key : fields.keySet()) {
+			Object value = fields.get(key);
+			if (!ID.equals(key) && (Boolean.TRUE.equals(value) || value instanceof Number
+					&& ((Number) value).intValue() != 0)) {
+				inclusion = true;
+			}
+		}
+
+		for (String key : sort.keySet()) {
+			if (inclusion) {
+				result.put(key, 1);
+			} else {
+				result.removeField(key);
+			}
+		}
+
+		return result;
+	}
+
+	private static DBObject getKeys(DBObject sort, DBObject document) {
+
+		DBObject keys = new BasicDBObject();
+
+		for (String field : sort.keySet()) {
+
+			Object value = document;
+
+			for (String segment : field.split("\\.")) {
+				value = value instanceof DBObject ? ((DBObject) value).get(segment) : null;
+			}
+
+			keys.put(field, value);
+		}
+
+		return keys;
+	}
+
+	/**
+	 * Opens a {@link DBCursor} for the given {@link Query} and wraps it into a {@link CloseableIterator} applying the
+	 * given {@link DbObjectCallback} to each document lazily.
+	 *
+	 * @param collectionName the collection to be queried
+	 * @param query the {@link Query} to execute
+	 * @param entityClass the type to map the query against
+	 * @param objectCallback the {@link DbObjectCallback} to transform {@link DBObject}s into the actual domain type
+	 * @return
+	 */
+	protected <S, T> CloseableIterator<T> doStream(String collectionName, Query query, Class<S> entityClass,
+			DbObjectCallback<T> objectCallback) {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+		DBObject mappedQuery = mapper.getMappedObject(query.getQueryObject(), entity);
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("stream using query: " + mappedQuery + " fields: " + query.getFieldsObject() + " for class: "
+					+ entityClass + " in collection: " + collectionName);
+		}
+
+		DBCursor cursor = null;
+
+		try {
+			cursor = new FindCallback(mappedQuery, query.getFieldsObject(), getReadPreference(entity))
+					.doInCollection(getAndPrepareCollection(getDb(), collectionName));
+			cursor = new QueryCursorPreparer(query).prepare(cursor);
+		} catch (RuntimeException e) {
+			if (cursor != null) {
+				cursor.close();
+			}
+			throw potentiallyConvertRuntimeException(e);
+		}
+
+		return new CloseableIterableCursorAdapter<T>(cursor, trackSnapshots(objectCallback, collectionName));
+	}
+
 	public <T> T findById(Object id, Class<T> entityClass) {
 		MongoPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(entityClass);
 		return findById(id, entityClass, persistentEntity.getCollection());
@@ -556,15 +1035,20 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		return count(query, null, collectionName);
 	}
 
-	private long count(Query query, Class<?> entityClass, String collectionName) {
+	private long count(Query query, Class<?> entityClass, final String collectionName) {
 
 		Assert.hasText(collectionName);
 		final DBObject dbObject = query == null ? null : mapper.getMappedObject(query.getQueryObject(),
 				entityClass == null ? null : mappingContext.getPersistentEntity(entityClass));
 
-		return execute(collectionName, new CollectionCallback<Long>() {
+		return execute(collectionName, MongoActionOperation.COUNT, new CollectionCallback<Long>() {
 			public Long doInCollection(DBCollection collection) throws MongoException, DataAccessException {
-				return collection.count(dbObject);
+
+				long start = System.nanoTime();
+				long count = collection.count(dbObject);
+				recordIfSlow(start, 0, MongoActionOperation.COUNT, collectionName, dbObject, null, null, null, collection);
+
+				return count;
 			}
 		});
 	}
@@ -597,7 +1081,8 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 
 	/**
 	 * Prepare the collection before any processing is done using it. This allows a convenient way to apply settings like
-	 * slaveOk() etc. Can be overridden in sub-classes.
+	 * slaveOk() etc. Can be overridden in sub-classes. Prepared collections are cached, so this is only invoked once per
+	 * collection and not for every operation.
 	 * 
 	 * @param collection
 	 */
@@ -624,14 +1109,25 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 
 		BasicDBObject dbDoc = new BasicDBObject();
 
-		maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave));
+		if (hasListenersFor(BeforeConvertEvent.class)) {
+			maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave));
+		}
+
+		long start = startConversionTiming();
 		writer.write(objectToSave, dbDoc);
+		recordConversion(collectionName, MongoActionOperation.INSERT, start, Collections.singletonList(dbDoc));
+
+		if (hasListenersFor(BeforeSaveEvent.class)) {
+			maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc));
+		}
 
-		maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc));
 		Object id = insertDBObject(collectionName, dbDoc, objectToSave.getClass());
 
 		populateIdIfNecessary(objectToSave, id);
-		maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc));
+
+		if (hasListenersFor(AfterSaveEvent.class)) {
+			maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc));
+		}
 	}
 
 	public void insert(Collection<? extends Object> batchToSave, Class<?> entityClass) {
@@ -672,60 +1168,285 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		}
 	}
 
+	/**
+	 * Converts and inserts the given batch of objects. The batch is flushed to the database in chunks bounded by
+	 * {@link #setInsertBatchChunkSize(int)} and {@link #setInsertBatchChunkBytes(int)} so that only the
+	 * {@link DBObject}s of a single chunk are held in memory at a time. Note that chunks are inserted independently, so a
+	 * failure in a later chunk does not roll back the ones already written.
+	 * 
+	 * @param collectionName
+	 * @param batchToSave
+	 * @param writer
+	 */
 	protected <T> void doInsertBatch(String collectionName, Collection<? extends T> batchToSave, MongoWriter<T> writer) {
 
 		Assert.notNull(writer);
 
-		List<DBObject> dbObjectList = new ArrayList<DBObject>();
-		for (T o : batchToSave) {
-			BasicDBObject dbDoc = new BasicDBObject();
+		List<T> chunk = new ArrayList<T>();
+		List<DBObject> dbObjectChunk = new ArrayList<DBObject>();
+		long chunkBytes = 0;
 
-			maybeEmitEvent(new BeforeConvertEvent<T>(o));
-			writer.write(o, dbDoc);
+		Iterator<? extends T> iterator = batchToSave.iterator();
 
-			maybeEmitEvent(new BeforeSaveEvent<T>(o, dbDoc));
-			dbObjectList.add(dbDoc);
-		}
-		List<ObjectId> ids = insertDBObjectList(collectionName, dbObjectList);
-		int i = 0;
-		for (T obj : batchToSave) {
-			if (i < ids.size()) {
-				populateIdIfNecessary(obj, ids.get(i));
-				maybeEmitEvent(new AfterSaveEvent<T>(obj, dbObjectList.get(i)));
+		while (iterator.hasNext()) {
+
+			List<T> window = nextConversionWindow(iterator);
+			long start = startConversionTiming();
+			List<DBObject> converted = convertForInsert(window, writer);
+			recordConversion(collectionName, MongoActionOperation.INSERT_LIST, start, converted);
+
+			for (int i = 0; i < window.size(); i++) {
+
+				DBObject dbDoc = converted.get(i);
+
+				int size = insertBatchChunkBytes > 0 ? SerializationUtils.estimateBsonSize(dbDoc) : 0;
+				boolean chunkSizeExceeded = insertBatchChunkSize > 0 && chunk.size() >= insertBatchChunkSize;
+				boolean chunkBytesExceeded = insertBatchChunkBytes > 0 && chunkBytes + size > insertBatchChunkBytes;
+
+				if (!chunk.isEmpty() && (chunkSizeExceeded || chunkBytesExceeded)) {
+					flushInsertBatchChunk(collectionName, chunk, dbObjectChunk);
+					chunk = new ArrayList<T>();
+					dbObjectChunk = new ArrayList<DBObject>();
+					chunkBytes = 0;
+				}
+
+				chunk.add(window.get(i));
+				dbObjectChunk.add(dbDoc);
+				chunkBytes += size;
 			}
-			i++;
 		}
-	}
-
-	public void save(Object objectToSave) {
-		save(objectToSave, determineEntityCollectionName(objectToSave));
-	}
 
-	public void save(Object objectToSave, String collectionName) {
-		doSave(collectionName, objectToSave, this.mongoConverter);
+		flushInsertBatchChunk(collectionName, chunk, dbObjectChunk);
 	}
 
-	protected <T> void doSave(String collectionName, T objectToSave, MongoWriter<T> writer) {
+	/**
+	 * Returns the next elements of the batch to be converted in one go. Without a batch conversion {@link Executor}
+	 * configured elements are converted one by one, otherwise we hand out windows of the configured chunk size.
+	 * 
+	 * @param iterator
+	 * @return
+	 */
+	private <T> List<T> nextConversionWindow(Iterator<? extends T> iterator) {
 
-		assertUpdateableIdIfNotSet(objectToSave);
+		int windowSize = 1;
 
-		BasicDBObject dbDoc = new BasicDBObject();
+		if (batchConversionExecutor != null) {
+			windowSize = insertBatchChunkSize > 0 ? insertBatchChunkSize : DEFAULT_INSERT_BATCH_CHUNK_SIZE;
+		}
 
-		maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave));
-		writer.write(objectToSave, dbDoc);
+		List<T> window = new ArrayList<T>(windowSize);
 
-		maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc));
-		Object id = saveDBObject(collectionName, dbDoc, objectToSave.getClass());
+		while (iterator.hasNext() && window.size() < windowSize) {
+			window.add(iterator.next());
+		}
 
-		populateIdIfNecessary(objectToSave, id);
-		maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc));
+		return window;
 	}
 
-	protected Object insertDBObject(final String collectionName, final DBObject dbDoc, final Class<?> entityClass) {
-		if (LOGGER.isDebugEnabled()) {
-			LOGGER.debug("insert DBObject containing fields: " + dbDoc.keySet() + " in collection: " + collectionName);
+	/**
+	 * Converts the given objects into {@link DBObject}s emitting {@link BeforeConvertEvent}s and {@link BeforeSaveEvent}s.
+	 * If a batch conversion {@link Executor} is configured the actual conversion is done concurrently. Events are still
+	 * published on the calling thread and in the order of the given objects then: all {@link BeforeConvertEvent}s before
+	 * the conversion, all {@link BeforeSaveEvent}s after it.
+	 * 
+	 * @param objects must not be {@literal null}.
+	 * @param writer must not be {@literal null}.
+	 * @return the converted {@link DBObject}s in the order of the given objects.
+	 */
+	private <T> List<DBObject> convertForInsert(List<T> objects, MongoWriter<T> writer) {
+
+		List<DBObject> result = new ArrayList<DBObject>(objects.size());
+
+		if (batchConversionExecutor == null || objects.size() < 2) {
+
+			for (T o : objects) {
+				BasicDBObject dbDoc = new BasicDBObject();
+
+				if (hasListenersFor(BeforeConvertEvent.class)) {
+					maybeEmitEvent(new BeforeConvertEvent<T>(o));
+				}
+
+				writer.write(o, dbDoc);
+
+				if (hasListenersFor(BeforeSaveEvent.class)) {
+					maybeEmitEvent(new BeforeSaveEvent<T>(o, dbDoc));
+				}
+
+				result.add(dbDoc);
+			}
+
+			return result;
+		}
+
+		if (hasListenersFor(BeforeConvertEvent.class)) {
+			for (T o : objects) {
+				maybeEmitEvent(new BeforeConvertEvent<T>(o));
+			}
+		}
+
+		result.addAll(convertConcurrently(objects, writer));
+
+		if (hasListenersFor(BeforeSaveEvent.class)) {
+			for (int i = 0; i < objects.size(); i++) {
+				maybeEmitEvent(new BeforeSaveEvent<T>(objects.get(i), result.get(i)));
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Splits the given objects into up to {@link #batchConversionParallelism} contiguous slices and converts each of
+	 * them in a task handed to the batch conversion {@link Executor}. Waits for all tasks to complete.
+	 * 
+	 * @param objects must not be {@literal null}.
+	 * @param writer must not be {@literal null}.
+	 * @return the converted {@link DBObject}s in the order of the given objects.
+	 */
+	private <T> List<DBObject> convertConcurrently(final List<T> objects, final MongoWriter<T> writer) {
+
+		final DBObject[] result = new DBObject[objects.size()];
+		int slices = Math.max(1, Math.min(batchConversionParallelism, objects.size()));
+		int sliceSize = (objects.size() + slices - 1) / slices;
+
+		List<FutureTask<Void>> tasks = new ArrayList<FutureTask<Void>>(slices);
+
+		for (int start = 0; start < objects.size(); start += sliceSize) {
+
+			final int from = start;
+			final int to = Math.min(start + sliceSize, objects.size());
+
+			FutureTask<Void> task = new FutureTask<Void>(new Callable<Void>() {
+				public Void call() throws Exception {
+					for (int i = from; i < to; i++) {
+						BasicDBObject dbDoc = new BasicDBObject();
+						writer.write(objects.get(i), dbDoc);
+						result[i] = dbDoc;
+					}
+					return null;
+				}
+			});
+
+			tasks.add(task);
+			batchConversionExecutor.execute(task);
+		}
+
+		awaitConversion(tasks);
+		return Arrays.asList(result);
+	}
+
+	/**
+	 * Waits for the given conversion tasks to complete and returns their results in order. Rethrows the failure of the
+	 * first failing task and cancels all remaining tasks in that case.
+	 * 
+	 * @param tasks must not be {@literal null}.
+	 * @return
+	 */
+	private static <S> List<S> awaitConversion(List<FutureTask<S>> tasks) {
+
+		List<S> results = new ArrayList<S>(tasks.size());
+
+		try {
+			for (FutureTask<S> task : tasks) {
+				results.add(task.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MappingException("Interrupted while waiting for conversion to complete!", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new MappingException(cause.getMessage(), cause);
+		} finally {
+			for (FutureTask<S> task : tasks) {
+				task.cancel(true);
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Inserts the given {@link DBObject}s, populates the ids of the source objects and emits {@link AfterSaveEvent}s for
+	 * them.
+	 * 
+	 * @param collectionName
+	 * @param objects the source objects
+	 * @param dbObjects the {@link DBObject}s converted from the source objects in the same order
+	 */
+	private <T> void flushInsertBatchChunk(String collectionName, List<T> objects, List<DBObject> dbObjects) {
+
+		if (objects.isEmpty()) {
+			return;
+		}
+
+		List<ObjectId> ids = insertDBObjectList(collectionName, dbObjects);
+
+		for (int i = 0; i < objects.size() && i < ids.size(); i++) {
+			T obj = objects.get(i);
+			populateIdIfNecessary(obj, ids.get(i));
+			if (hasListenersFor(AfterSaveEvent.class)) {
+				maybeEmitEvent(new AfterSaveEvent<T>(obj, dbObjects.get(i)));
+			}
+		}
+	}
+
+	public void save(Object objectToSave) {
+		save(objectToSave, determineEntityCollectionName(objectToSave));
+	}
+
+	public void save(Object objectToSave, String collectionName) {
+		doSave(collectionName, objectToSave, this.mongoConverter);
+	}
+
+	protected <T> void doSave(String collectionName, T objectToSave, MongoWriter<T> writer) {
+
+		assertUpdateableIdIfNotSet(objectToSave);
+
+		BasicDBObject dbDoc = new BasicDBObject();
+
+		if (hasListenersFor(BeforeConvertEvent.class)) {
+			maybeEmitEvent(new BeforeConvertEvent<T>(objectToSave));
+		}
+
+		long start = startConversionTiming();
+		writer.write(objectToSave, dbDoc);
+		recordConversion(collectionName, MongoActionOperation.SAVE, start, Collections.singletonList(dbDoc));
+
+		if (hasListenersFor(BeforeSaveEvent.class)) {
+			maybeEmitEvent(new BeforeSaveEvent<T>(objectToSave, dbDoc));
+		}
+
+		EntitySnapshots snapshots = this.entitySnapshots;
+		DBObject snapshot = snapshots == null ? null : snapshots.get(objectToSave, collectionName);
+		Object id;
+
+		if (snapshot != null && snapshot.get(ID) != null && snapshot.get(ID).equals(dbDoc.get(ID))) {
+			id = updateChangedFields(collectionName, snapshot, dbDoc, objectToSave.getClass());
+		} else {
+			id = saveDBObject(collectionName, dbDoc, objectToSave.getClass());
+		}
+
+		populateIdIfNecessary(objectToSave, id);
+
+		if (snapshots != null && !(objectToSave instanceof DBObject)) {
+			snapshots.put(objectToSave, collectionName, dbDoc);
+		}
+
+		if (hasListenersFor(AfterSaveEvent.class)) {
+			maybeEmitEvent(new AfterSaveEvent<T>(objectToSave, dbDoc));
 		}
-		return execute(collectionName, new CollectionCallback<Object>() {
+	}
+
+	protected Object insertDBObject(final String collectionName, final DBObject dbDoc, final Class<?> entityClass) {
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("insert DBObject containing fields: " + dbDoc.keySet() + " in collection: " + collectionName);
+		}
+		return executeWrite(collectionName, MongoActionOperation.INSERT, new CollectionCallback<Object>() {
 			public Object doInCollection(DBCollection collection) throws MongoException, DataAccessException {
 				MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.INSERT, collectionName,
 						entityClass, dbDoc, null);
@@ -748,7 +1469,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("insert list of DBObjects containing " + dbDocList.size() + " items");
 		}
-		execute(collectionName, new CollectionCallback<Void>() {
+		executeWrite(collectionName, MongoActionOperation.INSERT_LIST, new CollectionCallback<Void>() {
 			public Void doInCollection(DBCollection collection) throws MongoException, DataAccessException {
 				MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.INSERT_LIST, collectionName, null,
 						null, null);
@@ -779,7 +1500,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("save DBObject containing fields: " + dbDoc.keySet());
 		}
-		return execute(collectionName, new CollectionCallback<Object>() {
+		return executeWrite(collectionName, MongoActionOperation.SAVE, new CollectionCallback<Object>() {
 			public Object doInCollection(DBCollection collection) throws MongoException, DataAccessException {
 				MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.SAVE, collectionName, entityClass,
 						dbDoc, null);
@@ -794,6 +1515,55 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		});
 	}
 
+	/**
+	 * Writes the fields of the given {@link DBObject} that differ from the given snapshot of the document previously
+	 * read or saved. Falls back to saving the whole {@link DBObject} if the document was removed in the meantime. As
+	 * only acknowledged writes allow to detect that, the whole {@link DBObject} is saved right away if the
+	 * {@link WriteConcern} in effect is not acknowledged.
+	 * 
+	 * @param collectionName
+	 * @param snapshot
+	 * @param dbDoc
+	 * @param entityClass
+	 * @return the id of the saved document.
+	 */
+	protected Object updateChangedFields(final String collectionName, DBObject snapshot, final DBObject dbDoc,
+			final Class<?> entityClass) {
+
+		final DBObject updateObj = EntitySnapshots.diff(snapshot, dbDoc);
+
+		if (updateObj.keySet().isEmpty()) {
+			return dbDoc.get(ID);
+		}
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("save changed fields using update: " + updateObj + " in collection: " + collectionName);
+		}
+
+		boolean saveRequired = executeWrite(collectionName, MongoActionOperation.UPDATE, new CollectionCallback<Boolean>() {
+			public Boolean doInCollection(DBCollection collection) throws MongoException, DataAccessException {
+
+				DBObject queryObj = new BasicDBObject(ID, dbDoc.get(ID));
+				MongoAction mongoAction = new MongoAction(writeConcern, MongoActionOperation.UPDATE, collectionName,
+						entityClass, updateObj, queryObj);
+				WriteConcern writeConcernToUse = prepareWriteConcern(mongoAction);
+				WriteConcern concern = writeConcernToUse == null ? collection.getWriteConcern() : writeConcernToUse;
+
+				// only acknowledged writes report whether the document still exists
+				if (concern == null || !concern.callGetLastError()) {
+					return true;
+				}
+
+				WriteResult wr = collection.update(queryObj, updateObj, false, false, concern);
+				handleAnyWriteResultErrors(wr, queryObj, "update with '" + updateObj + "'");
+
+				return wr != null && wr.getN() == 0;
+			}
+		});
+
+		return saveRequired ? saveDBObject(collectionName, dbDoc, entityClass) : dbDoc.get(ID);
+	}
+
 	public WriteResult upsert(Query query, Update update, Class<?> entityClass) {
 		return doUpdate(determineCollectionName(entityClass), query, update, entityClass, true, false);
 	}
@@ -821,7 +1591,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	protected WriteResult doUpdate(final String collectionName, final Query query, final Update update,
 			final Class<?> entityClass, final boolean upsert, final boolean multi) {
 
-		return execute(collectionName, new CollectionCallback<WriteResult>() {
+		return executeWrite(collectionName, MongoActionOperation.UPDATE, new CollectionCallback<WriteResult>() {
 			public WriteResult doInCollection(DBCollection collection) throws MongoException, DataAccessException {
 
 				MongoPersistentEntity<?> entity = entityClass == null ? null : getPersistentEntity(entityClass);
@@ -925,7 +1695,7 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		}
 		final DBObject queryObject = query.getQueryObject();
 		final MongoPersistentEntity<?> entity = getPersistentEntity(entityClass);
-		execute(collectionName, new CollectionCallback<Void>() {
+		executeWrite(collectionName, MongoActionOperation.REMOVE, new CollectionCallback<Void>() {
 			public Void doInCollection(DBCollection collection) throws MongoException, DataAccessException {
 				DBObject dboq = mapper.getMappedObject(queryObject, entity);
 				WriteResult wr = null;
@@ -951,13 +1721,19 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	}
 
 	public <T> List<T> findAll(Class<T> entityClass) {
-		return executeFindMultiInternal(new FindCallback(null), null, new ReadDbObjectCallback<T>(mongoConverter,
-				entityClass), determineCollectionName(entityClass));
+		return findAll(entityClass, determineCollectionName(entityClass));
 	}
 
 	public <T> List<T> findAll(Class<T> entityClass, String collectionName) {
-		return executeFindMultiInternal(new FindCallback(null), null, new ReadDbObjectCallback<T>(mongoConverter,
-				entityClass), collectionName);
+
+		if (isCached(entityClass)) {
+			return doFind(collectionName, new BasicDBObject(), null, entityClass, null);
+		}
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+
+		return executeFindMultiInternal(new FindCallback(null, null, getReadPreference(entity)), null,
+				new ReadDbObjectCallback<T>(mongoConverter, entityClass), collectionName);
 	}
 
 	public <T> MapReduceResults<T> mapReduce(String inputCollectionName, String mapFunction, String reduceFunction,
@@ -1174,12 +1950,178 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		return mongoDbFactory.getDb();
 	}
 
+	/**
+	 * Returns whether query results for the given type are cached.
+	 * 
+	 * @param entityClass
+	 * @return
+	 */
+	private boolean isCached(Class<?> entityClass) {
+
+		if (entityCache == null || entityClass == null) {
+			return false;
+		}
+
+		Boolean cached = cachedTypes.get(entityClass);
+
+		if (cached == null) {
+			cached = AnnotationUtils.findAnnotation(entityClass, Cached.class) != null;
+			cachedTypes.put(entityClass, cached);
+		}
+
+		return cached;
+	}
+
+	private static String getCacheKey(String operation, DBObject query, DBObject fields, Query source) {
+
+		StringBuilder builder = new StringBuilder(operation);
+		builder.append('|').append(query).append('|').append(fields);
+
+		if (source != null) {
+			builder.append('|').append(source.getSortObject());
+			builder.append('|').append(source.getSkip()).append('|').append(source.getLimit());
+		}
+
+		return builder.toString();
+	}
+
+	private AtomicLong getCacheVersion(String collectionName) {
+
+		AtomicLong version = cacheVersions.get(collectionName);
+
+		if (version == null) {
+			AtomicLong newVersion = new AtomicLong();
+			version = cacheVersions.putIfAbsent(collectionName, newVersion);
+			version = version == null ? newVersion : version;
+		}
+
+		return version;
+	}
+
+	/**
+	 * Caches the given documents unless the collection was written to since the given version was obtained.
+	 */
+	private void cacheDocuments(String collectionName, String key, List<DBObject> documents, long version) {
+
+		AtomicLong currentVersion = getCacheVersion(collectionName);
+
+		if (currentVersion.get() != version) {
+			return;
+		}
+
+		entityCache.put(collectionName, key, documents);
+
+		// a write might have evicted the collection right before the put
+		if (currentVersion.get() != version) {
+			entityCache.evict(collectionName);
+		}
+	}
+
+	/**
+	 * Wraps the given {@link DbObjectCallback} to keep the {@link DBObject}s entities are read from if dirty tracking is
+	 * enabled.
+	 * 
+	 * @param objectCallback
+	 * @param collectionName
+	 * @return
+	 */
+	private <T> DbObjectCallback<T> trackSnapshots(DbObjectCallback<T> objectCallback, String collectionName) {
+
+		EntitySnapshots snapshots = this.entitySnapshots;
+
+		if (snapshots == null || !(objectCallback instanceof ReadDbObjectCallback)) {
+			return objectCallback;
+		}
+
+		return new SnapshotTrackingDbObjectCallback<T>(objectCallback, snapshots, collectionName);
+	}
+
+	/**
+	 * Returns the start time of a conversion to be handed to
+	 * {@link #recordConversion(String, MongoActionOperation, long, Collection)} or {@literal 0} if no
+	 * {@link OperationMetrics} are configured.
+	 * 
+	 * @return
+	 */
+	private long startConversionTiming() {
+		return operationMetrics == null ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * Records the conversion of the given {@link DBObject}s started at the given time with the configured
+	 * {@link OperationMetrics}.
+	 * 
+	 * @param collectionName
+	 * @param operation
+	 * @param start as returned by {@link #startConversionTiming()}.
+	 * @param dbObjects the {@link DBObject}s created.
+	 */
+	private void recordConversion(String collectionName, MongoActionOperation operation, long start,
+			Collection<? extends DBObject> dbObjects) {
+
+		OperationMetrics metrics = this.operationMetrics;
+
+		if (metrics == null || start == 0) {
+			return;
+		}
+
+		long nanos = System.nanoTime() - start;
+		long bytes = 0;
+
+		for (DBObject dbObject : dbObjects) {
+			bytes += SerializationUtils.estimateBsonSize(dbObject);
+		}
+
+		metrics.recordConversion(collectionName, operation, nanos, dbObjects.size(), bytes);
+	}
+
+	private void evictCachedResults(String collectionName) {
+
+		if (entityCache != null) {
+			getCacheVersion(collectionName).incrementAndGet();
+			entityCache.evict(collectionName);
+		}
+	}
+
 	protected <T> void maybeEmitEvent(MongoMappingEvent<T> event) {
 		if (null != eventPublisher) {
+			long start = System.nanoTime();
 			eventPublisher.publishEvent(event);
+			emittedEventNanos.addAndGet(System.nanoTime() - start);
+			emittedEventCount.incrementAndGet();
 		}
 	}
 
+	/**
+	 * Returns the number of {@link MongoMappingEvent}s published so far. Events are only created and published if a
+	 * listener for their type is registered in the {@link ApplicationContext}.
+	 * 
+	 * @return
+	 */
+	public long getEmittedEventCount() {
+		return emittedEventCount.get();
+	}
+
+	/**
+	 * Returns the total time in milliseconds spent publishing {@link MongoMappingEvent}s, i.e. the overhead the
+	 * registered listeners add to the template's operations.
+	 * 
+	 * @return
+	 */
+	public long getEmittedEventTime() {
+		return TimeUnit.NANOSECONDS.toMillis(emittedEventNanos.get());
+	}
+
+	/**
+	 * Returns whether a listener for the given {@link MongoMappingEvent} type is registered.
+	 * 
+	 * @param eventType
+	 * @return
+	 */
+	private boolean hasListenersFor(Class<?> eventType) {
+		return eventSubscriptions.hasSubscribers(eventType);
+	}
+
 	/**
 	 * Create the specified collection using the provided options
 	 * 
@@ -1212,12 +2154,49 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	 * @return the List of converted objects.
 	 */
 	protected <T> T doFindOne(String collectionName, DBObject query, DBObject fields, Class<T> entityClass) {
+		return doFindOne(collectionName, query, fields, entityClass, null);
+	}
+
+	/**
+	 * Finds a single object with the given {@link ReadPreference} or, if none given, the one configured for the entity.
+	 * 
+	 * @param collectionName
+	 * @param query
+	 * @param fields
+	 * @param entityClass
+	 * @param readPreference can be {@literal null}.
+	 * @return
+	 */
+	private <T> T doFindOne(String collectionName, DBObject query, DBObject fields, Class<T> entityClass,
+			ReadPreference readPreference) {
 		EntityReader<? super T, DBObject> readerToUse = this.mongoConverter;
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
 		DBObject mappedQuery = mapper.getMappedObject(query, entity);
+		ReadPreference readPreferenceToUse = readPreference != null ? readPreference : getReadPreference(entity);
+		DbObjectCallback<T> objectCallback = trackSnapshots(new ReadDbObjectCallback<T>(readerToUse, entityClass),
+				collectionName);
+
+		if (isCached(entityClass)) {
+
+			String key = getCacheKey("findOne", mappedQuery, fields, null);
+			List<DBObject> documents = entityCache.get(collectionName, key);
+
+			if (documents == null) {
+
+				long version = getCacheVersion(collectionName).get();
+				DBObject document = executeFindOneInternal(new FindOneCallback(mappedQuery, fields, readPreferenceToUse),
+						IdentityDbObjectCallback.INSTANCE, collectionName);
+
+				documents = document == null ? Collections.<DBObject> emptyList() : Collections.singletonList(document);
+				cacheDocuments(collectionName, key, documents, version);
+			}
+
+			// hand out copies so that listeners and the converter cannot modify the cached documents
+			return documents.isEmpty() ? null : objectCallback.doWith(SerializationUtils.deepCopy(documents.get(0)));
+		}
 
-		return executeFindOneInternal(new FindOneCallback(mappedQuery, fields), new ReadDbObjectCallback<T>(readerToUse,
-				entityClass), collectionName);
+		return executeFindOneInternal(new FindOneCallback(mappedQuery, fields, readPreferenceToUse), objectCallback,
+				collectionName);
 	}
 
 	/**
@@ -1251,7 +2230,33 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 			LOGGER.debug("find using query: " + query + " fields: " + fields + " for class: " + entityClass
 					+ " in collection: " + collectionName);
 		}
-		return executeFindMultiInternal(new FindCallback(mapper.getMappedObject(query, entity), fields), preparer,
+		DBObject mappedQuery = mapper.getMappedObject(query, entity);
+
+		if (isCached(entityClass) && (preparer == null || preparer instanceof QueryCursorPreparer)) {
+
+			Query source = preparer == null ? null : ((QueryCursorPreparer) preparer).query;
+			String key = getCacheKey("find", mappedQuery, fields, source);
+			List<DBObject> documents = entityCache.get(collectionName, key);
+
+			if (documents == null) {
+
+				long version = getCacheVersion(collectionName).get();
+				documents = executeFindMultiInternal(new FindCallback(mappedQuery, fields, getReadPreference(entity)),
+						preparer, IdentityDbObjectCallback.INSTANCE, collectionName);
+				cacheDocuments(collectionName, key, documents, version);
+			}
+
+			List<T> result = new ArrayList<T>(documents.size());
+			DbObjectCallback<T> callbackToUse = trackSnapshots(objectCallback, collectionName);
+
+			for (DBObject document : documents) {
+				result.add(callbackToUse.doWith(SerializationUtils.deepCopy(document)));
+			}
+
+			return result;
+		}
+
+		return executeFindMultiInternal(new FindCallback(mappedQuery, fields, getReadPreference(entity)), preparer,
 				objectCallback, collectionName);
 	}
 
@@ -1272,16 +2277,52 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 					+ " in collection: " + collectionName);
 		}
 		EntityReader<? super T, DBObject> readerToUse = this.mongoConverter;
+
+		if (isCached(entityClass)) {
+			return doFind(collectionName, query, fields, entityClass, null, new ReadDbObjectCallback<T>(readerToUse,
+					entityClass));
+		}
+
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
-		return executeFindMultiInternal(new FindCallback(mapper.getMappedObject(query, entity), fields), null,
-				new ReadDbObjectCallback<T>(readerToUse, entityClass), collectionName);
+		return executeFindMultiInternal(new FindCallback(mapper.getMappedObject(query, entity), fields,
+				getReadPreference(entity)), null, new ReadDbObjectCallback<T>(readerToUse, entityClass), collectionName);
 	}
 
-	protected DBObject convertToDbObject(CollectionOptions collectionOptions) {
-		DBObject dbo = new BasicDBObject();
-		if (collectionOptions != null) {
-			if (collectionOptions.getCapped() != null) {
-				dbo.put("capped", collectionOptions.getCapped().booleanValue());
+	/**
+	 * Returns the raw {@link DBObject}s matching the given already mapped query without converting them. Use
+	 * {@link #readDocument(DBObject, Class, String)} to turn them into entities.
+	 * 
+	 * @param mappedQuery must not be {@literal null}.
+	 * @param entityClass the type to determine the {@link ReadPreference} from, must not be {@literal null}.
+	 * @param collectionName must not be {@literal null}.
+	 * @return
+	 */
+	List<DBObject> findDocuments(DBObject mappedQuery, Class<?> entityClass, String collectionName) {
+
+		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
+		return executeFindMultiInternal(new FindCallback(mappedQuery, null, getReadPreference(entity)), null,
+				IdentityDbObjectCallback.INSTANCE, collectionName);
+	}
+
+	/**
+	 * Converts the given {@link DBObject} read from the given collection into an entity of the given type the same way
+	 * query results are converted, i.e. publishing the load and convert events and tracking a snapshot if dirty tracking
+	 * is enabled.
+	 * 
+	 * @param document must not be {@literal null}.
+	 * @param entityClass must not be {@literal null}.
+	 * @param collectionName must not be {@literal null}.
+	 * @return
+	 */
+	<T> T readDocument(DBObject document, Class<T> entityClass, String collectionName) {
+		return trackSnapshots(new ReadDbObjectCallback<T>(mongoConverter, entityClass), collectionName).doWith(document);
+	}
+
+	protected DBObject convertToDbObject(CollectionOptions collectionOptions) {
+		DBObject dbo = new BasicDBObject();
+		if (collectionOptions != null) {
+			if (collectionOptions.getCapped() != null) {
+				dbo.put("capped", collectionOptions.getCapped().booleanValue());
 			}
 			if (collectionOptions.getSize() != null) {
 				dbo.put("size", collectionOptions.getSize().intValue());
@@ -1312,8 +2353,13 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 					+ entityClass + " in collection: " + collectionName);
 		}
 		MongoPersistentEntity<?> entity = mappingContext.getPersistentEntity(entityClass);
-		return executeFindOneInternal(new FindAndRemoveCallback(mapper.getMappedObject(query, entity), fields, sort),
-				new ReadDbObjectCallback<T>(readerToUse, entityClass), collectionName);
+
+		try {
+			return executeFindOneInternal(new FindAndRemoveCallback(mapper.getMappedObject(query, entity), fields, sort),
+					new ReadDbObjectCallback<T>(readerToUse, entityClass), collectionName);
+		} finally {
+			evictCachedResults(collectionName);
+		}
 	}
 
 	protected <T> T doFindAndModify(String collectionName, DBObject query, DBObject fields, DBObject sort,
@@ -1339,8 +2385,12 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 					+ " for class: " + entityClass + " and update: " + updateObj + " in collection: " + collectionName);
 		}
 
-		return executeFindOneInternal(new FindAndModifyCallback(mappedQuery, fields, sort, updateObj, options),
-				new ReadDbObjectCallback<T>(readerToUse, entityClass), collectionName);
+		try {
+			return executeFindOneInternal(new FindAndModifyCallback(mappedQuery, fields, sort, updateObj, options),
+					new ReadDbObjectCallback<T>(readerToUse, entityClass), collectionName);
+		} finally {
+			evictCachedResults(collectionName);
+		}
 	}
 
 	/**
@@ -1383,8 +2433,18 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 
 	private DBCollection getAndPrepareCollection(DB db, String collectionName) {
 		try {
-			DBCollection collection = db.getCollection(collectionName);
+
+			String key = db.getName() + "." + collectionName;
+			DBCollection collection = preparedCollections.get(key);
+
+			if (collection != null && collection.getDB() == db) {
+				return collection;
+			}
+
+			collection = db.getCollection(collectionName);
 			prepareCollection(collection);
+			preparedCollections.put(key, collection);
+
 			return collection;
 		} catch (RuntimeException e) {
 			throw potentiallyConvertRuntimeException(e);
@@ -1408,13 +2468,100 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	private <T> T executeFindOneInternal(CollectionCallback<DBObject> collectionCallback,
 			DbObjectCallback<T> objectCallback, String collectionName) {
 
+		OperationMetrics metrics = this.operationMetrics;
+		long start = metrics == null && slowQueryLog == null ? 0 : System.nanoTime();
+		ConversionTimingDbObjectCallback<T> timingCallback = null;
+		DbObjectCallback<T> callbackToUse = trackSnapshots(objectCallback, collectionName);
+
+		if (metrics != null) {
+			timingCallback = new ConversionTimingDbObjectCallback<T>(callbackToUse);
+			callbackToUse = timingCallback;
+		}
+
 		try {
-			T result = objectCallback.doWith(collectionCallback.doInCollection(getAndPrepareCollection(getDb(),
-					collectionName)));
-			return result;
+			DBCollection collection = getAndPrepareCollection(getDb(), collectionName);
+			DBObject object = collectionCallback.doInCollection(collection);
+
+			if (collectionCallback instanceof FindOneCallback) {
+				FindOneCallback findOneCallback = (FindOneCallback) collectionCallback;
+				recordIfSlow(start, 0, MongoActionOperation.FIND, collectionName, findOneCallback.query,
+						findOneCallback.fields, null, null, collection);
+			}
+
+			return callbackToUse.doWith(object);
 		} catch (RuntimeException e) {
 			throw potentiallyConvertRuntimeException(e);
+		} finally {
+			if (metrics != null) {
+				timingCallback.record(metrics, collectionName, getOperation(collectionCallback), System.nanoTime() - start);
+			}
+		}
+	}
+
+	/**
+	 * Returns the {@link ReadPreference} configured for the given entity.
+	 * 
+	 * @param entity can be {@literal null}.
+	 * @return the {@link ReadPreference} or {@literal null} if none configured.
+	 */
+	private static ReadPreference getReadPreference(MongoPersistentEntity<?> entity) {
+		return entity == null ? null : entity.getReadPreference();
+	}
+
+	/**
+	 * Records the query started at the given time with the configured {@link SlowQueryLog} if it took longer than the
+	 * threshold. The plan is captured by explaining a copy of the given {@link DBCursor} or, if none is given, a cursor
+	 * for the query and fields on the given {@link DBCollection}.
+	 * 
+	 * @param start the value of {@link System#nanoTime()} when the query started.
+	 * @param excludedNanos the time spent on other things than the query since the start, e.g. converting results.
+	 * @param operation
+	 * @param collectionName
+	 * @param query the mapped query.
+	 * @param fields the mapped fields.
+	 * @param source the {@link Query} to take the sort and hint from, can be {@literal null}.
+	 * @param cursor the {@link DBCursor} that was used to read the results, can be {@literal null}.
+	 * @param collection the {@link DBCollection} to explain the query on if no {@link DBCursor} is given.
+	 */
+	private void recordIfSlow(long start, long excludedNanos, MongoActionOperation operation, String collectionName,
+			DBObject query, DBObject fields, Query source, DBCursor cursor, DBCollection collection) {
+
+		SlowQueryLog slowQueries = this.slowQueryLog;
+
+		if (slowQueries == null || start == 0) {
+			return;
+		}
+
+		long elapsed = Math.max(0, System.nanoTime() - start - excludedNanos);
+
+		if (!slowQueries.isSlow(elapsed)) {
+			return;
+		}
+
+		DBObject sort = source == null ? null : source.getSortObject();
+		String hint = source == null ? null : source.getHint();
+		DBCursor cursorToExplain = cursor != null ? cursor.copy() : collection.find(query, fields);
+
+		slowQueries.record(new SlowQuery(collectionName, operation, query, fields, sort, hint, elapsed), cursorToExplain);
+	}
+
+	/**
+	 * Returns the {@link MongoActionOperation} to record the execution of the given {@link CollectionCallback} as.
+	 * 
+	 * @param collectionCallback
+	 * @return
+	 */
+	private static MongoActionOperation getOperation(CollectionCallback<DBObject> collectionCallback) {
+
+		if (collectionCallback instanceof FindAndModifyCallback) {
+			return MongoActionOperation.UPDATE;
 		}
+
+		if (collectionCallback instanceof FindAndRemoveCallback) {
+			return MongoActionOperation.REMOVE;
+		}
+
+		return MongoActionOperation.FIND;
 	}
 
 	/**
@@ -1438,23 +2585,139 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 	private <T> List<T> executeFindMultiInternal(CollectionCallback<DBCursor> collectionCallback,
 			CursorPreparer preparer, DbObjectCallback<T> objectCallback, String collectionName) {
 
+		OperationMetrics metrics = this.operationMetrics;
+		long start = metrics == null && slowQueryLog == null ? 0 : System.nanoTime();
+		ConversionTimingDbObjectCallback<T> timingCallback = null;
+
+		Query source = preparer instanceof QueryCursorPreparer ? ((QueryCursorPreparer) preparer).query : null;
+		Deadline deadline = source == null || source.getMaxTimeMsec() <= 0 ? null : Deadline.in(
+				source.getMaxTimeMsec(), TimeUnit.MILLISECONDS);
+		DBCursor cursor = null;
+
 		try {
-			DBCursor cursor = collectionCallback.doInCollection(getAndPrepareCollection(getDb(), collectionName));
+			cursor = collectionCallback.doInCollection(getAndPrepareCollection(getDb(), collectionName));
+			DbObjectCallback<T> callbackToUse = trackSnapshots(objectCallback, collectionName);
+
+			if (start != 0) {
+				timingCallback = new ConversionTimingDbObjectCallback<T>(callbackToUse);
+				callbackToUse = timingCallback;
+			}
+
+			if (deadline != null) {
+				callbackToUse = new DeadlineDbObjectCallback<T>(callbackToUse, deadline);
+			}
 
 			if (preparer != null) {
 				cursor = preparer.prepare(cursor);
 			}
 
+			// only the time spent reading the cursor is considered for the slow query log, not the conversion
+			if (readConversionExecutor != null) {
+
+				List<FutureTask<List<T>>> tasks = readPipelined(cursor, callbackToUse, deadline);
+				recordIfSlow(start, 0, MongoActionOperation.FIND, collectionName, cursor.getQuery(), cursor.getKeysWanted(),
+						source, cursor, null);
+				return awaitPipelined(tasks);
+			}
+
 			List<T> result = new ArrayList<T>();
 
 			for (DBObject object : cursor) {
-				result.add(objectCallback.doWith(object));
+				result.add(callbackToUse.doWith(object));
 			}
 
+			recordIfSlow(start, timingCallback == null ? 0 : timingCallback.getConversionNanos(),
+					MongoActionOperation.FIND, collectionName, cursor.getQuery(), cursor.getKeysWanted(), source, cursor, null);
+
 			return result;
 		} catch (RuntimeException e) {
+			if (deadline != null && cursor != null) {
+				cursor.close();
+			}
 			throw potentiallyConvertRuntimeException(e);
+		} finally {
+			if (metrics != null && timingCallback != null) {
+				timingCallback.record(metrics, collectionName, MongoActionOperation.FIND, System.nanoTime() - start);
+			}
+		}
+	}
+
+	/**
+	 * Drains the given {@link DBCursor} on the calling thread and hands blocks of {@link #readConversionBlockSize}
+	 * {@link DBObject}s to the read conversion {@link Executor} to be converted with the given {@link DbObjectCallback}
+	 * while the next block is fetched from the server.
+	 * 
+	 * @param cursor must not be {@literal null}.
+	 * @param objectCallback must not be {@literal null}.
+	 * @param deadline the {@link Deadline} to stop reading at, can be {@literal null}.
+	 * @return the conversion tasks in cursor order, to be handed to {@link #awaitPipelined(List)}.
+	 */
+	private <T> List<FutureTask<List<T>>> readPipelined(DBCursor cursor, DbObjectCallback<T> objectCallback,
+			Deadline deadline) {
+
+		List<FutureTask<List<T>>> tasks = new ArrayList<FutureTask<List<T>>>();
+		List<DBObject> block = new ArrayList<DBObject>(readConversionBlockSize);
+
+		try {
+			for (DBObject object : cursor) {
+
+				if (deadline != null) {
+					deadline.check();
+				}
+
+				block.add(object);
+
+				if (block.size() >= readConversionBlockSize) {
+					tasks.add(submitReadConversion(block, objectCallback));
+					block = new ArrayList<DBObject>(readConversionBlockSize);
+				}
+			}
+		} catch (RuntimeException e) {
+			for (FutureTask<List<T>> task : tasks) {
+				task.cancel(true);
+			}
+			throw e;
+		}
+
+		if (!block.isEmpty()) {
+			tasks.add(submitReadConversion(block, objectCallback));
+		}
+
+		return tasks;
+	}
+
+	/**
+	 * Waits for the given conversion tasks to complete and collects their results.
+	 * 
+	 * @param tasks must not be {@literal null}.
+	 * @return the converted objects in cursor order.
+	 */
+	private <T> List<T> awaitPipelined(List<FutureTask<List<T>>> tasks) {
+
+		List<T> result = new ArrayList<T>(tasks.size() * readConversionBlockSize);
+
+		for (List<T> converted : awaitConversion(tasks)) {
+			result.addAll(converted);
 		}
+
+		return result;
+	}
+
+	private <T> FutureTask<List<T>> submitReadConversion(final List<DBObject> block,
+			final DbObjectCallback<T> objectCallback) {
+
+		FutureTask<List<T>> task = new FutureTask<List<T>>(new Callable<List<T>>() {
+			public List<T> call() throws Exception {
+				List<T> result = new ArrayList<T>(block.size());
+				for (DBObject object : block) {
+					result.add(objectCallback.doWith(object));
+				}
+				return result;
+			}
+		});
+
+		readConversionExecutor.execute(task);
+		return task;
 	}
 
 	private void executeQueryInternal(CollectionCallback<DBCursor> collectionCallback, CursorPreparer preparer,
@@ -1565,14 +2828,26 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 
 		private final DBObject query;
 		private final DBObject fields;
+		private final ReadPreference readPreference;
 
 		public FindOneCallback(DBObject query, DBObject fields) {
+			this(query, fields, null);
+		}
+
+		public FindOneCallback(DBObject query, DBObject fields, ReadPreference readPreference) {
 			this.query = query;
 			this.fields = fields;
+			this.readPreference = readPreference;
 		}
 
 		public DBObject doInCollection(DBCollection collection) throws MongoException, DataAccessException {
-			if (fields == null) {
+			if (readPreference != null) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("findOne using query: " + query + " fields: " + fields + " read preference: "
+							+ readPreference + " in db.collection: " + collection.getFullName());
+				}
+				return collection.findOne(query, fields, readPreference);
+			} else if (fields == null) {
 				if (LOGGER.isDebugEnabled()) {
 					LOGGER.debug("findOne using query: " + query + " in db.collection: " + collection.getFullName());
 				}
@@ -1600,21 +2875,31 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 
 		private final DBObject fields;
 
+		private final ReadPreference readPreference;
+
 		public FindCallback(DBObject query) {
 			this(query, null);
 		}
 
 		public FindCallback(DBObject query, DBObject fields) {
+			this(query, fields, null);
+		}
+
+		public FindCallback(DBObject query, DBObject fields, ReadPreference readPreference) {
 			this.query = query;
 			this.fields = fields;
+			this.readPreference = readPreference;
 		}
 
 		public DBCursor doInCollection(DBCollection collection) throws MongoException, DataAccessException {
-			if (fields == null) {
-				return collection.find(query);
-			} else {
-				return collection.find(query, fields);
+
+			DBCursor cursor = fields == null ? collection.find(query) : collection.find(query, fields);
+
+			if (readPreference != null && cursor != null) {
+				cursor.setReadPreference(readPreference);
 			}
+
+			return cursor;
 		}
 	}
 
@@ -1659,8 +2944,41 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		}
 
 		public DBObject doInCollection(DBCollection collection) throws MongoException, DataAccessException {
-			return collection.findAndModify(query, fields, sort, options.isRemove(), update, options.isReturnNew(),
-					options.isUpsert());
+
+			if (options.getMaxTimeMsec() <= 0) {
+				return collection.findAndModify(query, fields, sort, options.isRemove(), update, options.isReturnNew(),
+						options.isUpsert());
+			}
+
+			// the driver does not support maxTimeMS so we issue the command ourselves
+			DBObject command = new BasicDBObject("findandmodify", collection.getName());
+			putIfNotNull(command, "query", query);
+			putIfNotNull(command, "fields", fields);
+			putIfNotNull(command, "sort", sort);
+
+			if (options.isRemove()) {
+				command.put("remove", true);
+			} else {
+				command.put("update", update);
+				command.put("new", options.isReturnNew());
+				command.put("upsert", options.isUpsert());
+			}
+
+			command.put("maxTimeMS", options.getMaxTimeMsec());
+
+			CommandResult result = collection.getDB().command(command);
+
+			if (!result.ok() && !"No matching object found".equals(result.getErrorMessage())) {
+				result.throwOnError();
+			}
+
+			return (DBObject) result.get("value");
+		}
+
+		private static void putIfNotNull(DBObject dbObject, String key, Object value) {
+			if (value != null) {
+				dbObject.put(key, value);
+			}
 		}
 	}
 
@@ -1675,6 +2993,18 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		T doWith(DBObject object);
 	}
 
+	/**
+	 * {@link DbObjectCallback} returning the raw {@link DBObject}s to cache them.
+	 */
+	private enum IdentityDbObjectCallback implements DbObjectCallback<DBObject> {
+
+		INSTANCE;
+
+		public DBObject doWith(DBObject object) {
+			return object;
+		}
+	}
+
 	/**
 	 * Simple {@link DbObjectCallback} that will transform {@link DBObject} into the given target type using the given
 	 * {@link MongoReader}.
@@ -1694,17 +3024,152 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		}
 
 		public T doWith(DBObject object) {
-			if (null != object) {
+			if (null != object && hasListenersFor(AfterLoadEvent.class)) {
 				maybeEmitEvent(new AfterLoadEvent<T>(object, type));
 			}
 			T source = reader.read(type, object);
-			if (null != source) {
+			if (null != source && hasListenersFor(AfterConvertEvent.class)) {
 				maybeEmitEvent(new AfterConvertEvent<T>(object, source));
 			}
 			return source;
 		}
 	}
 
+	/**
+	 * {@link DbObjectCallback} registering the {@link DBObject}s entities are read from with {@link EntitySnapshots}.
+	 */
+	private static class SnapshotTrackingDbObjectCallback<T> implements DbObjectCallback<T> {
+
+		private final DbObjectCallback<T> delegate;
+		private final EntitySnapshots snapshots;
+		private final String collectionName;
+
+		public SnapshotTrackingDbObjectCallback(DbObjectCallback<T> delegate, EntitySnapshots snapshots,
+				String collectionName) {
+			this.delegate = delegate;
+			this.snapshots = snapshots;
+			this.collectionName = collectionName;
+		}
+
+		public T doWith(DBObject object) {
+
+			T result = delegate.doWith(object);
+
+			if (object != null && result != null && !(result instanceof DBObject)) {
+				snapshots.put(result, collectionName, object);
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * {@link DbObjectCallback} measuring the time spent converting {@link DBObject}s as well as their number and
+	 * estimated size so that it can be recorded separately from the time spent waiting for the database. Safe to be
+	 * used from multiple threads. If the conversion is pipelined with reading the cursor the time spent waiting for the
+	 * database is underestimated by the time both overlapped.
+	 */
+	private static class ConversionTimingDbObjectCallback<T> implements DbObjectCallback<T> {
+
+		private final DbObjectCallback<T> delegate;
+		private final AtomicLong conversionNanos = new AtomicLong();
+		private final AtomicLong documents = new AtomicLong();
+		private final AtomicLong bytes = new AtomicLong();
+
+		public ConversionTimingDbObjectCallback(DbObjectCallback<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		public T doWith(DBObject object) {
+
+			long start = System.nanoTime();
+
+			try {
+				return delegate.doWith(object);
+			} finally {
+
+				conversionNanos.addAndGet(System.nanoTime() - start);
+
+				if (object != null) {
+					documents.incrementAndGet();
+					bytes.addAndGet(SerializationUtils.estimateBsonSize(object));
+				}
+			}
+		}
+
+		/**
+		 * Returns the time spent converting so far.
+		 * 
+		 * @return
+		 */
+		public long getConversionNanos() {
+			return conversionNanos.get();
+		}
+
+		/**
+		 * Records the conversions done so far and the remainder of the given total time as execution.
+		 * 
+		 * @param metrics
+		 * @param collectionName
+		 * @param operation
+		 * @param totalNanos the time the whole operation took including the conversion.
+		 */
+		public void record(OperationMetrics metrics, String collectionName, MongoActionOperation operation,
+				long totalNanos) {
+
+			long conversion = conversionNanos.get();
+
+			metrics.recordExecution(collectionName, operation, Math.max(0, totalNanos - conversion));
+			metrics.recordConversion(collectionName, operation, conversion, documents.get(), bytes.get());
+		}
+	}
+
+	/**
+	 * {@link DbObjectCallback} aborting the read once the given {@link Deadline} has passed. Binds the {@link Deadline}
+	 * to the converting thread so that {@link com.mongodb.DBRef}s are resolved within the remaining time.
+	 */
+	private static class DeadlineDbObjectCallback<T> implements DbObjectCallback<T> {
+
+		private final DbObjectCallback<T> delegate;
+		private final Deadline deadline;
+
+		public DeadlineDbObjectCallback(DbObjectCallback<T> delegate, Deadline deadline) {
+			this.delegate = delegate;
+			this.deadline = deadline;
+		}
+
+		public T doWith(DBObject object) {
+
+			deadline.check();
+			Deadline previous = Deadline.bind(deadline);
+
+			try {
+				return delegate.doWith(object);
+			} finally {
+				Deadline.bind(previous);
+			}
+		}
+	}
+
+	/**
+	 * Re-inspects the {@link ApplicationListener}s registered for {@link MongoMappingEvent}s once the
+	 * {@link ApplicationContext} was refreshed.
+	 */
+	private class EventSubscriptionsRefresher implements ApplicationListener<ContextRefreshedEvent> {
+
+		private final ApplicationContext context;
+
+		public EventSubscriptionsRefresher(ApplicationContext context) {
+			this.context = context;
+		}
+
+		public void onApplicationEvent(ContextRefreshedEvent event) {
+			if (context.equals(event.getApplicationContext())) {
+				eventSubscriptions = MappingEventSubscriptions.of(context);
+			}
+		}
+	}
+
 	private class DefaultWriteConcernResolver implements WriteConcernResolver {
 
 		public WriteConcern resolve(MongoAction action) {
@@ -1732,7 +3197,9 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 			}
 
 			if (query.getSkip() <= 0 && query.getLimit() <= 0 && query.getSortObject() == null
-					&& !StringUtils.hasText(query.getHint())) {
+					&& !StringUtils.hasText(query.getHint()) && query.getBatchSize() == 0
+					&& query.getCursorOptions().isEmpty() && query.getReadPreference() == null
+					&& query.getMaxTimeMsec() <= 0) {
 				return cursor;
 			}
 
@@ -1751,6 +3218,18 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 				if (StringUtils.hasText(query.getHint())) {
 					cursorToUse = cursorToUse.hint(query.getHint());
 				}
+				if (query.getBatchSize() != 0) {
+					cursorToUse = cursorToUse.batchSize(query.getBatchSize());
+				}
+				for (CursorOption option : query.getCursorOptions()) {
+					cursorToUse = cursorToUse.addOption(option.getValue());
+				}
+				if (query.getReadPreference() != null) {
+					cursorToUse.setReadPreference(query.getReadPreference());
+				}
+				if (query.getMaxTimeMsec() > 0) {
+					cursorToUse = cursorToUse.addSpecial("$maxTimeMS", query.getMaxTimeMsec());
+				}
 			} catch (RuntimeException e) {
 				throw potentiallyConvertRuntimeException(e);
 			}
@@ -1759,6 +3238,101 @@ public class MongoTemplate implements MongoOperations, ApplicationContextAware {
 		}
 	}
 
+	/**
+	 * {@link CloseableIterator} adapting a {@link DBCursor} by converting each {@link DBObject} with the given
+	 * {@link DbObjectCallback} on access. Closes the cursor once it is exhausted or iteration fails.
+	 */
+	class CloseableIterableCursorAdapter<T> implements CloseableIterator<T> {
+
+		private final DbObjectCallback<T> objectCallback;
+		private DBCursor cursor;
+
+		/**
+		 * Creates a new {@link CloseableIterableCursorAdapter} for the given {@link DBCursor} and {@link DbObjectCallback}.
+		 *
+		 * @param cursor must not be {@literal null}.
+		 * @param objectCallback must not be {@literal null}.
+		 */
+		public CloseableIterableCursorAdapter(DBCursor cursor, DbObjectCallback<T> objectCallback) {
+
+			Assert.notNull(cursor);
+			Assert.notNull(objectCallback);
+
+			this.cursor = cursor;
+			this.objectCallback = objectCallback;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		public boolean hasNext() {
+
+			if (cursor == null) {
+				return false;
+			}
+
+			try {
+				boolean hasNext = cursor.hasNext();
+
+				if (!hasNext) {
+					close();
+				}
+
+				return hasNext;
+			} catch (RuntimeException e) {
+				close();
+				throw potentiallyConvertRuntimeException(e);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		public T next() {
+
+			if (cursor == null) {
+				throw new NoSuchElementException("Cursor already closed!");
+			}
+
+			try {
+				return objectCallback.doWith(cursor.next());
+			} catch (RuntimeException e) {
+				close();
+				throw potentiallyConvertRuntimeException(e);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		public void remove() {
+			throw new UnsupportedOperationException("Removing elements through a CloseableIterator is not supported!");
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.CloseableIterator#close()
+		 */
+		public void close() {
+
+			DBCursor cursorToClose = cursor;
+			cursor = null;
+
+			if (cursorToClose == null) {
+				return;
+			}
+
+			try {
+				cursorToClose.close();
+			} catch (RuntimeException e) {
+				throw potentiallyConvertRuntimeException(e);
+			}
+		}
+	}
+
 	/**
 	 * {@link DbObjectCallback} that assumes a {@link GeoResult} to be created, delegates actual content unmarshalling to
 	 * a delegate and creates a {@link GeoResult} from the result.
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * Collects {@link OperationStatistics} per collection and {@link MongoActionOperation}. Register an instance with
+ * {@link MongoTemplate#setOperationMetrics(OperationMetrics)} to have the template record the operations it executes
+ * and export it to JMX through {@link org.springframework.data.mongodb.monitor.ClientOperationMetrics}.
+ */
+public class OperationMetrics {
+
+	private final ConcurrentMap<String, OperationStatistics> statistics;
+
+	/**
+	 * Creates a new, empty {@link OperationMetrics}.
+	 */
+	public OperationMetrics() {
+		this.statistics = new ConcurrentHashMap<String, OperationStatistics>();
+	}
+
+	/**
+	 * Records an execution of the given operation against the given collection that spent the given time waiting for
+	 * the database.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param operation must not be {@literal null}.
+	 * @param nanos must not be negative.
+	 */
+	public void recordExecution(String collectionName, MongoActionOperation operation, long nanos) {
+		getOrCreateStatistics(collectionName, operation).recordExecution(nanos);
+	}
+
+	/**
+	 * Records the conversion of documents done for the given operation against the given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param operation must not be {@literal null}.
+	 * @param nanos must not be negative.
+	 * @param documents the number of documents converted.
+	 * @param bytes the (estimated) size of the documents converted.
+	 */
+	public void recordConversion(String collectionName, MongoActionOperation operation, long nanos, long documents,
+			long bytes) {
+		getOrCreateStatistics(collectionName, operation).recordConversion(nanos, documents, bytes);
+	}
+
+	/**
+	 * Returns the {@link OperationStatistics} for the given operation against the given collection.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param operation must not be {@literal null}.
+	 * @return the statistics or {@literal null} if nothing was recorded for the given combination yet.
+	 */
+	public OperationStatistics getStatistics(String collectionName, MongoActionOperation operation) {
+		return statistics.get(getKey(collectionName, operation));
+	}
+
+	/**
+	 * Returns all {@link OperationStatistics} recorded keyed by {@code collection:OPERATION}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Map<String, OperationStatistics> getStatistics() {
+		return Collections.unmodifiableMap(new TreeMap<String, OperationStatistics>(statistics));
+	}
+
+	/**
+	 * Resets all statistics recorded. The {@link OperationStatistics} are reset in place rather than removed so that
+	 * operations recorded concurrently are not lost.
+	 */
+	public void reset() {
+
+		for (OperationStatistics operationStatistics : statistics.values()) {
+			operationStatistics.reset();
+		}
+	}
+
+	private OperationStatistics getOrCreateStatistics(String collectionName, MongoActionOperation operation) {
+
+		String key = getKey(collectionName, operation);
+		OperationStatistics result = statistics.get(key);
+
+		if (result == null) {
+			OperationStatistics newStatistics = new OperationStatistics();
+			result = statistics.putIfAbsent(key, newStatistics);
+			result = result == null ? newStatistics : result;
+		}
+
+		return result;
+	}
+
+	private static String getKey(String collectionName, MongoActionOperation operation) {
+
+		Assert.notNull(collectionName, "Collection name must not be null!");
+		Assert.notNull(operation, "Operation must not be null!");
+
+		return collectionName + ":" + operation.name();
+	}
+}
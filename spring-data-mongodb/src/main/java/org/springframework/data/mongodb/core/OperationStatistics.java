@@ -0,0 +1,258 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.util.Assert;
+
+/**
+ * Timings and throughput of a single {@link MongoActionOperation} on a single collection. Execution times are kept in
+ * a log-linear histogram (the scheme popularized by HdrHistogram) with 16 sub-buckets per power of two, so that
+ * percentiles are accurate to about 6% over the whole range of values while recording is lock free and needs constant
+ * memory. Time spent converting documents to and from entities is tracked separately from the time spent talking to
+ * the database.
+ */
+public class OperationStatistics {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+	private final AtomicLong executionCount = new AtomicLong();
+	private final AtomicLong executionNanos = new AtomicLong();
+	private final AtomicLong maxExecutionNanos = new AtomicLong();
+	private final AtomicLong conversionNanos = new AtomicLong();
+	private final AtomicLong documentCount = new AtomicLong();
+	private final AtomicLong bytesConverted = new AtomicLong();
+
+	/**
+	 * Records a single execution of the operation that spent the given time waiting for the database.
+	 *
+	 * @param nanos must not be negative.
+	 */
+	public void recordExecution(long nanos) {
+
+		Assert.isTrue(nanos >= 0, "Execution time must not be negative!");
+
+		histogram.incrementAndGet(bucketIndex(nanos));
+		executionCount.incrementAndGet();
+		executionNanos.addAndGet(nanos);
+
+		long max;
+
+		while (nanos > (max = maxExecutionNanos.get())) {
+			if (maxExecutionNanos.compareAndSet(max, nanos)) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Records the conversion of the given number of documents of the given (estimated) size that took the given time.
+	 *
+	 * @param nanos must not be negative.
+	 * @param documents the number of documents converted.
+	 * @param bytes the size of the documents converted.
+	 */
+	public void recordConversion(long nanos, long documents, long bytes) {
+
+		Assert.isTrue(nanos >= 0, "Conversion time must not be negative!");
+
+		conversionNanos.addAndGet(nanos);
+		documentCount.addAndGet(documents);
+		bytesConverted.addAndGet(bytes);
+	}
+
+	/**
+	 * Returns the number of executions recorded.
+	 *
+	 * @return
+	 */
+	public long getExecutionCount() {
+		return executionCount.get();
+	}
+
+	/**
+	 * Returns the total time spent waiting for the database.
+	 *
+	 * @param unit must not be {@literal null}.
+	 * @return
+	 */
+	public long getExecutionTime(TimeUnit unit) {
+		return unit.convert(executionNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the total time spent converting documents.
+	 *
+	 * @param unit must not be {@literal null}.
+	 * @return
+	 */
+	public long getConversionTime(TimeUnit unit) {
+		return unit.convert(conversionNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of documents read or written.
+	 *
+	 * @return
+	 */
+	public long getDocumentCount() {
+		return documentCount.get();
+	}
+
+	/**
+	 * Returns the estimated number of BSON bytes of the documents read or written.
+	 *
+	 * @return
+	 */
+	public long getBytesConverted() {
+		return bytesConverted.get();
+	}
+
+	/**
+	 * Returns the mean execution time.
+	 *
+	 * @param unit must not be {@literal null}.
+	 * @return the mean or {@literal 0} if no execution was recorded yet.
+	 */
+	public long getMeanExecutionTime(TimeUnit unit) {
+
+		long count = executionCount.get();
+		return count == 0 ? 0 : unit.convert(executionNanos.get() / count, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the longest execution time recorded.
+	 *
+	 * @param unit must not be {@literal null}.
+	 * @return
+	 */
+	public long getMaxExecutionTime(TimeUnit unit) {
+		return unit.convert(maxExecutionNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the execution time the given percentage of executions took at most. The value returned is the upper bound
+	 * of the histogram bucket the percentile falls into.
+	 *
+	 * @param percentile between {@literal 0} and {@literal 100}.
+	 * @param unit must not be {@literal null}.
+	 * @return the percentile or {@literal 0} if no execution was recorded yet.
+	 */
+	public long getExecutionTimePercentile(double percentile, TimeUnit unit) {
+
+		Assert.isTrue(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100!");
+		Assert.notNull(unit, "TimeUnit must not be null!");
+
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = histogram.get(i);
+			total += counts[i];
+		}
+
+		if (total == 0) {
+			return 0;
+		}
+
+		long threshold = Math.max(1, (long) Math.ceil(total * percentile / 100));
+		long seen = 0;
+
+		for (int i = 0; i < BUCKETS; i++) {
+
+			seen += counts[i];
+
+			if (seen >= threshold) {
+				long upperBound = i + 1 < BUCKETS ? lowestValue(i + 1) - 1 : Long.MAX_VALUE;
+				return unit.convert(Math.min(upperBound, maxExecutionNanos.get()), TimeUnit.NANOSECONDS);
+			}
+		}
+
+		return unit.convert(maxExecutionNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Resets all statistics.
+	 */
+	public void reset() {
+
+		for (int i = 0; i < BUCKETS; i++) {
+			histogram.set(i, 0);
+		}
+
+		executionCount.set(0);
+		executionNanos.set(0);
+		maxExecutionNanos.set(0);
+		conversionNanos.set(0);
+		documentCount.set(0);
+		bytesConverted.set(0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+
+		TimeUnit micros = TimeUnit.MICROSECONDS;
+
+		return String.format("executions: %s, mean: %sus, p50: %sus, p99: %sus, max: %sus, documents: %s, "
+				+ "bytes: %s, conversion: %sms", getExecutionCount(), getMeanExecutionTime(micros),
+				getExecutionTimePercentile(50, micros), getExecutionTimePercentile(99, micros), getMaxExecutionTime(micros),
+				getDocumentCount(), getBytesConverted(), getConversionTime(TimeUnit.MILLISECONDS));
+	}
+
+	/**
+	 * Returns the histogram bucket for the given value. Values below {@link #SUB_BUCKETS} get a bucket of their own,
+	 * larger ones are grouped by their highest bit and the {@link #SUB_BUCKET_BITS} bits following it.
+	 *
+	 * @param value must not be negative.
+	 * @return
+	 */
+	static int bucketIndex(long value) {
+
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+
+		return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+	}
+
+	/**
+	 * Returns the smallest value falling into the bucket with the given index.
+	 *
+	 * @param index
+	 * @return
+	 */
+	static long lowestValue(int index) {
+
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+
+		return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (index / SUB_BUCKETS - 1);
+	}
+}
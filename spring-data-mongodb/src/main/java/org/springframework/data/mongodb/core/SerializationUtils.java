@@ -15,18 +15,25 @@
  */
 package org.springframework.data.mongodb.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.bson.types.ObjectId;
 import org.springframework.core.convert.converter.Converter;
 
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
 import com.mongodb.util.JSON;
 
 /**
- * Utility methods for JSON serialization.
+ * Utility methods for JSON serialization, BSON size estimation and copying {@link DBObject}s.
  * 
  * @author Oliver Gierke
  */
@@ -65,6 +72,121 @@ public abstract class SerializationUtils {
 		}
 	}
 
+	/**
+	 * Estimates the number of bytes the given {@link DBObject} will occupy when encoded into BSON. The estimate is
+	 * calculated by walking the object tree without actually encoding it and is thus cheap but not exact (e.g. it assumes
+	 * single byte characters for {@link String}s).
+	 * 
+	 * @param dbObject can be {@literal null}.
+	 * @return
+	 */
+	public static int estimateBsonSize(DBObject dbObject) {
+
+		if (dbObject == null) {
+			return 0;
+		}
+
+		int size = 5; // int32 length + terminating 0x00
+
+		for (String key : dbObject.keySet()) {
+			size += 2 + key.length() + estimateBsonValueSize(dbObject.get(key));
+		}
+
+		return size;
+	}
+
+	private static int estimateBsonValueSize(Object value) {
+
+		if (value == null || value instanceof Boolean) {
+			return 1;
+		} else if (value instanceof String) {
+			return 5 + ((String) value).length();
+		} else if (value instanceof Integer) {
+			return 4;
+		} else if (value instanceof Number || value instanceof Date) {
+			return 8;
+		} else if (value instanceof ObjectId) {
+			return 12;
+		} else if (value instanceof byte[]) {
+			return 5 + ((byte[]) value).length;
+		} else if (value instanceof DBObject) {
+			return estimateBsonSize((DBObject) value);
+		} else if (value instanceof Iterable) {
+			return estimateBsonArraySize(((Iterable<?>) value).iterator());
+		} else if (value instanceof Object[]) {
+			return estimateBsonArraySize(Arrays.asList((Object[]) value).iterator());
+		}
+
+		return 16;
+	}
+
+	/**
+	 * Creates a deep copy of the given {@link DBObject}. Nested {@link DBObject}s, {@link List}s, {@link Date}s and
+	 * {@code byte} arrays are copied as well so that the copy can be modified without affecting the source.
+	 * 
+	 * @param dbObject can be {@literal null}.
+	 * @return
+	 */
+	public static DBObject deepCopy(DBObject dbObject) {
+		return (DBObject) copyValue(dbObject);
+	}
+
+	private static Object copyValue(Object value) {
+
+		if (value instanceof BasicDBList) {
+
+			BasicDBList source = (BasicDBList) value;
+			BasicDBList copy = new BasicDBList();
+
+			for (Object element : source) {
+				copy.add(copyValue(element));
+			}
+
+			return copy;
+
+		} else if (value instanceof DBObject) {
+
+			DBObject source = (DBObject) value;
+			DBObject copy = new BasicDBObject();
+
+			for (String key : source.keySet()) {
+				copy.put(key, copyValue(source.get(key)));
+			}
+
+			return copy;
+
+		} else if (value instanceof List) {
+
+			List<?> source = (List<?>) value;
+			List<Object> copy = new ArrayList<Object>(source.size());
+
+			for (Object element : source) {
+				copy.add(copyValue(element));
+			}
+
+			return copy;
+
+		} else if (value instanceof Date) {
+			return new Date(((Date) value).getTime());
+		} else if (value instanceof byte[]) {
+			return ((byte[]) value).clone();
+		}
+
+		return value;
+	}
+
+	private static int estimateBsonArraySize(Iterator<?> elements) {
+
+		int size = 5;
+		int index = 0;
+
+		while (elements.hasNext()) {
+			size += 2 + String.valueOf(index++).length() + estimateBsonValueSize(elements.next());
+		}
+
+		return size;
+	}
+
 	private static String toString(Map<?, ?> source) {
 		return iterableToDelimitedString(source.entrySet(), "{ ", " }", new Converter<Entry<?, ?>, Object>() {
 			public Object convert(Entry<?, ?> source) {
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.springframework.data.mongodb.core.SerializationUtils.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+import com.mongodb.DBObject;
+
+/**
+ * A query that took longer than the threshold configured for a {@link SlowQueryLog}. Carries the mapped query, fields,
+ * sort and hint as they were sent to the database as well as the plan reported by {@code explain()} once it was
+ * captured.
+ */
+public class SlowQuery {
+
+	private final String collectionName;
+	private final MongoActionOperation operation;
+	private final DBObject query;
+	private final DBObject fields;
+	private final DBObject sort;
+	private final String hint;
+	private final long elapsedNanos;
+	private final Date timestamp;
+
+	private volatile DBObject explain;
+
+	/**
+	 * Creates a new {@link SlowQuery}.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param operation must not be {@literal null}.
+	 * @param query can be {@literal null}.
+	 * @param fields can be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @param hint can be {@literal null}.
+	 * @param elapsedNanos the time the query took.
+	 */
+	public SlowQuery(String collectionName, MongoActionOperation operation, DBObject query, DBObject fields,
+			DBObject sort, String hint, long elapsedNanos) {
+
+		Assert.notNull(collectionName, "Collection name must not be null!");
+		Assert.notNull(operation, "Operation must not be null!");
+
+		this.collectionName = collectionName;
+		this.operation = operation;
+		this.query = query;
+		this.fields = fields;
+		this.sort = sort;
+		this.hint = hint;
+		this.elapsedNanos = elapsedNanos;
+		this.timestamp = new Date();
+	}
+
+	public String getCollectionName() {
+		return collectionName;
+	}
+
+	public MongoActionOperation getOperation() {
+		return operation;
+	}
+
+	public DBObject getQuery() {
+		return query;
+	}
+
+	public DBObject getFields() {
+		return fields;
+	}
+
+	public DBObject getSort() {
+		return sort;
+	}
+
+	public String getHint() {
+		return hint;
+	}
+
+	/**
+	 * Returns the time the query took.
+	 *
+	 * @param unit must not be {@literal null}.
+	 * @return
+	 */
+	public long getElapsedTime(TimeUnit unit) {
+		return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns when the query completed.
+	 *
+	 * @return
+	 */
+	public Date getTimestamp() {
+		return new Date(timestamp.getTime());
+	}
+
+	/**
+	 * Returns the result of {@code explain()} for the query.
+	 *
+	 * @return the plan or {@literal null} if it was not captured (yet).
+	 */
+	public DBObject getExplain() {
+		return explain;
+	}
+
+	void setExplain(DBObject explain) {
+		this.explain = explain;
+	}
+
+	/**
+	 * Returns the number of index entries or documents scanned as reported by {@code explain()}.
+	 *
+	 * @return the number or {@literal -1} if no plan was captured.
+	 */
+	public long getScanned() {
+		return getExplainedCount("nscanned");
+	}
+
+	/**
+	 * Returns the number of documents matched as reported by {@code explain()}. A number much lower than
+	 * {@link #getScanned()} hints at a missing or badly chosen index.
+	 *
+	 * @return the number or {@literal -1} if no plan was captured.
+	 */
+	public long getReturned() {
+		return getExplainedCount("n");
+	}
+
+	private long getExplainedCount(String key) {
+
+		DBObject explain = this.explain;
+		Object value = explain == null ? null : explain.get(key);
+
+		return value instanceof Number ? ((Number) value).longValue() : -1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("Slow %s on %s took %sms: query %s, fields %s, sort %s, hint %s, scanned %s, returned %s",
+				operation, collectionName, getElapsedTime(TimeUnit.MILLISECONDS), serializeToJsonSafely(query),
+				serializeToJsonSafely(fields), serializeToJsonSafely(sort), hint, getScanned(), getReturned());
+	}
+}
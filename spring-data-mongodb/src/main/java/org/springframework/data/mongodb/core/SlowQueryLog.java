@@ -0,0 +1,207 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.mongodb.DBCursor;
+
+/**
+ * Keeps the most recent {@link SlowQuery}s recorded by a {@link MongoTemplate} in a bounded ring buffer. If an
+ * {@link Executor} is configured the queries are re-run with {@code explain()} on it to capture the query plan without
+ * delaying the caller. Slow queries are handed to an optional {@link SlowQuerySink} as well, after the plan was
+ * captured if explaining is enabled.
+ *
+ * @see MongoTemplate#setSlowQueryLog(SlowQueryLog)
+ */
+public class SlowQueryLog {
+
+	public static final int DEFAULT_CAPACITY = 100;
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SlowQueryLog.class);
+
+	private final long thresholdNanos;
+	private final SlowQuery[] buffer;
+	private final AtomicLong slowQueryCount = new AtomicLong();
+	private int next = 0;
+
+	private Executor explainExecutor;
+	private SlowQuerySink sink;
+
+	/**
+	 * Creates a new {@link SlowQueryLog} keeping the last {@value #DEFAULT_CAPACITY} queries taking longer than the
+	 * given threshold.
+	 *
+	 * @param threshold must not be negative.
+	 * @param unit must not be {@literal null}.
+	 */
+	public SlowQueryLog(long threshold, TimeUnit unit) {
+		this(threshold, unit, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link SlowQueryLog} keeping the given number of queries taking longer than the given threshold.
+	 *
+	 * @param threshold must not be negative.
+	 * @param unit must not be {@literal null}.
+	 * @param capacity must be positive.
+	 */
+	public SlowQueryLog(long threshold, TimeUnit unit, int capacity) {
+
+		Assert.isTrue(threshold >= 0, "Threshold must not be negative!");
+		Assert.notNull(unit, "TimeUnit must not be null!");
+		Assert.isTrue(capacity > 0, "Capacity must be positive!");
+
+		this.thresholdNanos = unit.toNanos(threshold);
+		this.buffer = new SlowQuery[capacity];
+	}
+
+	/**
+	 * Configures the {@link Executor} to re-run slow queries with {@code explain()} on. Defaults to {@literal null},
+	 * which means no plans are captured.
+	 *
+	 * @param explainExecutor
+	 */
+	public void setExplainExecutor(Executor explainExecutor) {
+		this.explainExecutor = explainExecutor;
+	}
+
+	/**
+	 * Configures the {@link SlowQuerySink} to additionally hand slow queries to.
+	 *
+	 * @param sink
+	 */
+	public void setSink(SlowQuerySink sink) {
+		this.sink = sink;
+	}
+
+	/**
+	 * Returns whether a query that took the given time is considered slow.
+	 *
+	 * @param elapsedNanos
+	 * @return
+	 */
+	public boolean isSlow(long elapsedNanos) {
+		return elapsedNanos >= thresholdNanos;
+	}
+
+	/**
+	 * Records the given {@link SlowQuery} and schedules capturing its plan by explaining the given {@link DBCursor}.
+	 *
+	 * @param slowQuery must not be {@literal null}.
+	 * @param cursor a {@link DBCursor} equivalent to the query to be explained, {@literal null} if the query cannot be
+	 *          explained.
+	 */
+	public void record(final SlowQuery slowQuery, final DBCursor cursor) {
+
+		Assert.notNull(slowQuery, "SlowQuery must not be null!");
+
+		synchronized (buffer) {
+			buffer[next] = slowQuery;
+			next = (next + 1) % buffer.length;
+		}
+
+		slowQueryCount.incrementAndGet();
+
+		Executor executor = this.explainExecutor;
+
+		if (executor == null || cursor == null) {
+			writeToSink(slowQuery);
+			return;
+		}
+
+		executor.execute(new Runnable() {
+			public void run() {
+
+				try {
+					slowQuery.setExplain(cursor.explain());
+				} catch (RuntimeException e) {
+					LOGGER.warn("Failed to explain slow query " + slowQuery, e);
+				}
+
+				writeToSink(slowQuery);
+			}
+		});
+	}
+
+	/**
+	 * Returns the slow queries currently held in the buffer, oldest first.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<SlowQuery> getSlowQueries() {
+
+		List<SlowQuery> result = new ArrayList<SlowQuery>(buffer.length);
+
+		synchronized (buffer) {
+			for (int i = 0; i < buffer.length; i++) {
+
+				SlowQuery slowQuery = buffer[(next + i) % buffer.length];
+
+				if (slowQuery != null) {
+					result.add(slowQuery);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the number of slow queries recorded in total, including the ones already dropped from the buffer.
+	 *
+	 * @return
+	 */
+	public long getSlowQueryCount() {
+		return slowQueryCount.get();
+	}
+
+	/**
+	 * Removes all slow queries from the buffer.
+	 */
+	public void clear() {
+
+		synchronized (buffer) {
+			for (int i = 0; i < buffer.length; i++) {
+				buffer[i] = null;
+			}
+			next = 0;
+		}
+	}
+
+	private void writeToSink(SlowQuery slowQuery) {
+
+		SlowQuerySink sink = this.sink;
+
+		if (sink == null) {
+			return;
+		}
+
+		try {
+			sink.write(slowQuery);
+		} catch (RuntimeException e) {
+			LOGGER.warn("Failed to write slow query " + slowQuery, e);
+		}
+	}
+}
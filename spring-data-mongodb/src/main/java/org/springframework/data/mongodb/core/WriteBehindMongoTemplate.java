@@ -0,0 +1,558 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.mapping.MongoSimpleTypes;
+import org.springframework.util.Assert;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Write-behind decorator for the {@link MongoOperations#save(Object)} and {@link MongoOperations#insert(Object)}
+ * operations. Objects are converted right away, so later changes to them do not affect the buffered state, but only
+ * written to the database when the buffer is flushed. Repeated writes of a document with the same id into the same
+ * collection are coalesced so that only the latest state gets written. The buffers of all collections are flushed
+ * using {@link BulkOperations} once {@link #setMaxBufferSize(int)} writes are buffered, when {@link #flush()} is
+ * called and - if a {@link ScheduledExecutorService} is given - periodically.
+ * <p/>
+ * Objects without an id get an {@link ObjectId} assigned when buffered, so that repeated writes of them are coalesced
+ * as well. Buffered writes are lost if the application terminates without {@link #close()} being called. As the writes
+ * bypass {@link MongoTemplate} no mapping events are emitted.
+ */
+public class WriteBehindMongoTemplate implements DisposableBean {
+
+	public static final int DEFAULT_MAX_BUFFER_SIZE = 1000;
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindMongoTemplate.class);
+	private static final String ID = "_id";
+
+	private final MongoOperations operations;
+	private final MongoConverter converter;
+	private final ScheduledFuture<?> scheduledFlush;
+
+	private final Object bufferMonitor = new Object();
+	private final Object flushMonitor = new Object();
+	private Map<String, CollectionBuffer> buffers = new LinkedHashMap<String, CollectionBuffer>();
+	private int bufferedWrites = 0;
+
+	private volatile int maxBufferSize = DEFAULT_MAX_BUFFER_SIZE;
+	private volatile BulkMode bulkMode = BulkMode.ORDERED;
+	private boolean closed = false;
+
+	private final AtomicLong writeCount = new AtomicLong();
+	private final AtomicLong coalescedWriteCount = new AtomicLong();
+	private final AtomicLong flushCount = new AtomicLong();
+	private final AtomicLong failedFlushCount = new AtomicLong();
+	private final AtomicLong totalFlushNanos = new AtomicLong();
+	private volatile long lastFlushNanos = 0;
+
+	/**
+	 * Creates a new {@link WriteBehindMongoTemplate} only flushing when the buffer is full or on explicit calls to
+	 * {@link #flush()} and {@link #close()}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 */
+	public WriteBehindMongoTemplate(MongoOperations operations) {
+
+		Assert.notNull(operations, "MongoOperations must not be null!");
+
+		this.operations = operations;
+		this.converter = operations.getConverter();
+		this.scheduledFlush = null;
+	}
+
+	/**
+	 * Creates a new {@link WriteBehindMongoTemplate} additionally flushing periodically using the given
+	 * {@link ScheduledExecutorService}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param scheduler must not be {@literal null}.
+	 * @param flushInterval the delay between the end of a periodic flush and the start of the next one, must be
+	 *          positive.
+	 * @param unit must not be {@literal null}.
+	 */
+	public WriteBehindMongoTemplate(MongoOperations operations, ScheduledExecutorService scheduler, long flushInterval,
+			TimeUnit unit) {
+
+		Assert.notNull(operations, "MongoOperations must not be null!");
+		Assert.notNull(scheduler, "ScheduledExecutorService must not be null!");
+		Assert.isTrue(flushInterval > 0, "Flush interval must be positive!");
+		Assert.notNull(unit, "TimeUnit must not be null!");
+
+		this.operations = operations;
+		this.converter = operations.getConverter();
+		this.scheduledFlush = scheduler.scheduleWithFixedDelay(new Runnable() {
+			public void run() {
+				try {
+					flush();
+				} catch (RuntimeException e) {
+					// already logged, keep the periodic flush alive
+				}
+			}
+		}, flushInterval, flushInterval, unit);
+	}
+
+	/**
+	 * Configures the number of buffered writes (after coalescing) that triggers a flush on the writing thread. Defaults
+	 * to {@value #DEFAULT_MAX_BUFFER_SIZE}.
+	 *
+	 * @param maxBufferSize must be positive.
+	 */
+	public void setMaxBufferSize(int maxBufferSize) {
+
+		Assert.isTrue(maxBufferSize > 0, "Max buffer size must be positive!");
+		this.maxBufferSize = maxBufferSize;
+	}
+
+	/**
+	 * Configures the {@link BulkMode} to flush the buffers with. Defaults to {@link BulkMode#ORDERED}.
+	 *
+	 * @param bulkMode must not be {@literal null}.
+	 */
+	public void setBulkMode(BulkMode bulkMode) {
+
+		Assert.notNull(bulkMode, "BulkMode must not be null!");
+		this.bulkMode = bulkMode;
+	}
+
+	/**
+	 * Buffers a save of the given object into the collection of its type.
+	 *
+	 * @see MongoOperations#save(Object)
+	 * @param objectToSave must not be {@literal null}.
+	 */
+	public void save(Object objectToSave) {
+
+		Assert.notNull(objectToSave, "Object to save must not be null!");
+		buffer(objectToSave, operations.getCollectionName(objectToSave.getClass()), false);
+	}
+
+	/**
+	 * Buffers a save of the given object into the given collection.
+	 *
+	 * @see MongoOperations#save(Object, String)
+	 * @param objectToSave must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 */
+	public void save(Object objectToSave, String collectionName) {
+
+		Assert.notNull(objectToSave, "Object to save must not be null!");
+		buffer(objectToSave, collectionName, false);
+	}
+
+	/**
+	 * Buffers an insert of the given object into the collection of its type.
+	 *
+	 * @see MongoOperations#insert(Object)
+	 * @param objectToSave must not be {@literal null}.
+	 */
+	public void insert(Object objectToSave) {
+
+		Assert.notNull(objectToSave, "Object to save must not be null!");
+		buffer(objectToSave, operations.getCollectionName(objectToSave.getClass()), true);
+	}
+
+	/**
+	 * Buffers an insert of the given object into the given collection.
+	 *
+	 * @see MongoOperations#insert(Object, String)
+	 * @param objectToSave must not be {@literal null}.
+	 * @param collectionName must not be {@literal null} or empty.
+	 */
+	public void insert(Object objectToSave, String collectionName) {
+
+		Assert.notNull(objectToSave, "Object to save must not be null!");
+		buffer(objectToSave, collectionName, true);
+	}
+
+	/**
+	 * Writes all currently buffered objects to the database. Flushes are serialized, so a flush started while another
+	 * one is running waits for it to complete. If writing to one of the collections fails its buffered writes are
+	 * re-queued ahead of the ones buffered in the meantime and retried by the next flush, the remaining collections are
+	 * still written and the first exception is rethrown. As parts of a failed flush might have been applied already,
+	 * re-queued inserts of documents carrying an id are retried as saves.
+	 */
+	public void flush() {
+
+		synchronized (flushMonitor) {
+
+			Map<String, CollectionBuffer> toFlush;
+
+			synchronized (bufferMonitor) {
+
+				if (bufferedWrites == 0) {
+					return;
+				}
+
+				toFlush = buffers;
+				buffers = new LinkedHashMap<String, CollectionBuffer>();
+				bufferedWrites = 0;
+			}
+
+			long start = System.nanoTime();
+			RuntimeException failure = null;
+			Map<String, CollectionBuffer> failed = new LinkedHashMap<String, CollectionBuffer>();
+
+			for (Entry<String, CollectionBuffer> entry : toFlush.entrySet()) {
+				try {
+					BulkOperations bulkOperations = operations.bulkOps(bulkMode, entry.getKey());
+					entry.getValue().applyTo(bulkOperations);
+					bulkOperations.execute();
+				} catch (RuntimeException e) {
+					failedFlushCount.incrementAndGet();
+					LOGGER.error("Failed to flush buffered writes to collection " + entry.getKey() + ", re-queueing them", e);
+					failure = failure == null ? e : failure;
+					failed.put(entry.getKey(), entry.getValue());
+				}
+			}
+
+			if (!failed.isEmpty()) {
+				requeue(failed);
+			}
+
+			lastFlushNanos = System.nanoTime() - start;
+			totalFlushNanos.addAndGet(lastFlushNanos);
+			flushCount.incrementAndGet();
+
+			if (failure != null) {
+				throw failure;
+			}
+		}
+	}
+
+	/**
+	 * Stops the periodic flush, flushes all buffered writes and rejects any further ones. Writes buffered concurrently
+	 * either complete before the template is closed and are flushed or are rejected.
+	 */
+	public void close() {
+
+		synchronized (bufferMonitor) {
+			closed = true;
+		}
+
+		if (scheduledFlush != null) {
+			scheduledFlush.cancel(false);
+		}
+
+		flush();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	public void destroy() {
+		close();
+	}
+
+	/**
+	 * Returns the number of writes currently buffered, i.e. waiting to be flushed.
+	 *
+	 * @return
+	 */
+	public int getQueueDepth() {
+
+		synchronized (bufferMonitor) {
+			return bufferedWrites;
+		}
+	}
+
+	/**
+	 * Returns the total number of writes handed to the template.
+	 *
+	 * @return
+	 */
+	public long getWriteCount() {
+		return writeCount.get();
+	}
+
+	/**
+	 * Returns the number of writes that were coalesced with a buffered write of a document with the same id.
+	 *
+	 * @return
+	 */
+	public long getCoalescedWriteCount() {
+		return coalescedWriteCount.get();
+	}
+
+	/**
+	 * Returns the number of flushes that wrote at least a single document.
+	 *
+	 * @return
+	 */
+	public long getFlushCount() {
+		return flushCount.get();
+	}
+
+	/**
+	 * Returns the number of collection buffers that failed to be written.
+	 *
+	 * @return
+	 */
+	public long getFailedFlushCount() {
+		return failedFlushCount.get();
+	}
+
+	/**
+	 * Returns the duration of the last flush in milliseconds.
+	 *
+	 * @return
+	 */
+	public long getLastFlushLatency() {
+		return TimeUnit.NANOSECONDS.toMillis(lastFlushNanos);
+	}
+
+	/**
+	 * Returns the average duration of all flushes in milliseconds.
+	 *
+	 * @return
+	 */
+	public long getAverageFlushLatency() {
+
+		long flushes = flushCount.get();
+		return flushes == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalFlushNanos.get() / flushes);
+	}
+
+	private void buffer(Object objectToSave, String collectionName, boolean insert) {
+
+		Assert.hasText(collectionName, "Collection name must not be null or empty!");
+
+		DBObject dbObject = toDbObject(objectToSave);
+		boolean flush;
+
+		synchronized (bufferMonitor) {
+
+			Assert.state(!closed, "WriteBehindMongoTemplate already closed!");
+
+			CollectionBuffer buffer = buffers.get(collectionName);
+
+			if (buffer == null) {
+				buffer = new CollectionBuffer();
+				buffers.put(collectionName, buffer);
+			}
+
+			if (buffer.add(dbObject, insert)) {
+				coalescedWriteCount.incrementAndGet();
+			} else {
+				bufferedWrites++;
+			}
+
+			flush = bufferedWrites >= maxBufferSize;
+		}
+
+		writeCount.incrementAndGet();
+
+		if (flush) {
+			flush();
+		}
+	}
+
+	/**
+	 * Puts the given failed buffers back in front of the writes buffered while they were flushed.
+	 *
+	 * @param failed
+	 */
+	private void requeue(Map<String, CollectionBuffer> failed) {
+
+		synchronized (bufferMonitor) {
+
+			for (CollectionBuffer buffer : failed.values()) {
+				buffer.prepareRetry();
+			}
+
+			for (Entry<String, CollectionBuffer> entry : buffers.entrySet()) {
+
+				CollectionBuffer buffer = failed.get(entry.getKey());
+
+				if (buffer == null) {
+					failed.put(entry.getKey(), entry.getValue());
+				} else {
+					coalescedWriteCount.addAndGet(buffer.addAll(entry.getValue()));
+				}
+			}
+
+			buffers = failed;
+			bufferedWrites = 0;
+
+			for (CollectionBuffer buffer : buffers.values()) {
+				bufferedWrites += buffer.size();
+			}
+		}
+	}
+
+	private DBObject toDbObject(Object objectToSave) {
+
+		if (objectToSave instanceof DBObject) {
+
+			DBObject source = (DBObject) objectToSave;
+
+			if (source.get(ID) == null) {
+				source.put(ID, new ObjectId());
+			}
+
+			return new BasicDBObject(source.toMap());
+		}
+
+		generateIdIfNecessary(objectToSave);
+
+		DBObject dbObject = new BasicDBObject();
+		converter.write(objectToSave, dbObject);
+		return dbObject;
+	}
+
+	/**
+	 * Assigns a new {@link ObjectId} to the given object if it does not carry an id yet and its id property is of a type
+	 * the id can be generated for.
+	 *
+	 * @param objectToSave
+	 */
+	private void generateIdIfNecessary(Object objectToSave) {
+
+		MongoPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(objectToSave.getClass());
+		MongoPersistentProperty idProperty = entity == null ? null : entity.getIdProperty();
+
+		if (idProperty == null || !MongoSimpleTypes.AUTOGENERATED_ID_TYPES.contains(idProperty.getType())) {
+			return;
+		}
+
+		ConversionService conversionService = converter.getConversionService();
+		BeanWrapper<PersistentEntity<Object, ?>, Object> wrapper = BeanWrapper.create(objectToSave, conversionService);
+
+		try {
+
+			if (wrapper.getProperty(idProperty) == null) {
+				wrapper.setProperty(idProperty, new ObjectId());
+			}
+
+		} catch (IllegalAccessException e) {
+			throw new MappingException(e.getMessage(), e);
+		} catch (InvocationTargetException e) {
+			throw new MappingException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Buffered writes for a single collection in submission order. Documents carrying an id are coalesced by it, the
+	 * latest write of a document taking the position of the previous one at the end of the order. The ones without an id
+	 * are always inserted.
+	 */
+	private static class CollectionBuffer {
+
+		private final Map<Object, PendingWrite> writes = new LinkedHashMap<Object, PendingWrite>();
+
+		/**
+		 * Adds the given document to the buffer.
+		 *
+		 * @param dbObject
+		 * @param insert
+		 * @return whether the document replaced an already buffered one.
+		 */
+		public boolean add(DBObject dbObject, boolean insert) {
+
+			Object id = dbObject.get(ID);
+			Object key = id == null ? new Object() : id;
+
+			// remove first to move the document to the end of the write order
+			PendingWrite previous = writes.remove(key);
+			writes.put(key, new PendingWrite(dbObject, insert && (previous == null || previous.insert)));
+
+			return previous != null;
+		}
+
+		/**
+		 * Adds all writes of the given, more recent buffer to this one.
+		 *
+		 * @param newer
+		 * @return the number of writes that replaced an already buffered one.
+		 */
+		public int addAll(CollectionBuffer newer) {
+
+			int coalesced = 0;
+
+			for (PendingWrite write : newer.writes.values()) {
+				if (add(write.dbObject, write.insert)) {
+					coalesced++;
+				}
+			}
+
+			return coalesced;
+		}
+
+		/**
+		 * Turns the buffered inserts of documents carrying an id into saves, so that retrying them succeeds even if they
+		 * have been written by the failed attempt already.
+		 */
+		public void prepareRetry() {
+
+			for (Entry<Object, PendingWrite> entry : writes.entrySet()) {
+
+				PendingWrite write = entry.getValue();
+
+				if (write.insert && write.dbObject.get(ID) != null) {
+					entry.setValue(new PendingWrite(write.dbObject, false));
+				}
+			}
+		}
+
+		public int size() {
+			return writes.size();
+		}
+
+		public void applyTo(BulkOperations bulkOperations) {
+
+			for (PendingWrite write : writes.values()) {
+				if (write.insert) {
+					bulkOperations.insert(write.dbObject);
+				} else {
+					bulkOperations.save(write.dbObject);
+				}
+			}
+		}
+	}
+
+	private static class PendingWrite {
+
+		private final DBObject dbObject;
+		private final boolean insert;
+
+		public PendingWrite(DBObject dbObject, boolean insert) {
+			this.dbObject = dbObject;
+			this.insert = insert;
+		}
+	}
+}
@@ -0,0 +1,556 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Creates {@link PersistentPropertyAccessor}s for {@link MongoPersistentEntity}s. Generates a class per entity type
+ * that reads and writes properties by accessing fields and invoking getters and setters directly instead of going
+ * through reflection. The generated class is defined in the package and {@link ClassLoader} of the entity type, so it
+ * can access all members but private ones. Private members as well as entity types no class can be defined for are
+ * accessed reflectively. Generated classes are shared between all factories per {@link ClassLoader} as they cannot be
+ * unloaded individually. The {@link ClassLoader}s are only referenced weakly so that they can be garbage collected
+ * together with the classes generated into them.
+ */
+class ClassGeneratingPropertyAccessorFactory {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ClassGeneratingPropertyAccessorFactory.class);
+
+	private static final String SUFFIX = "$$PropertyAccessor$$";
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+	private static final Method DEFINE_CLASS;
+	private static final Map<ClassLoader, Map<String, Reference<Class<?>>>> GENERATED_CLASSES;
+
+	static {
+
+		Method method;
+
+		try {
+			method = ClassLoader.class.getDeclaredMethod("defineClass", String.class, byte[].class, int.class, int.class,
+					ProtectionDomain.class);
+			ReflectionUtils.makeAccessible(method);
+		} catch (Exception e) {
+			method = null;
+		}
+
+		DEFINE_CLASS = method;
+		GENERATED_CLASSES = new WeakHashMap<ClassLoader, Map<String, Reference<Class<?>>>>();
+	}
+
+	private final ConcurrentMap<Class<?>, PersistentPropertyAccessor> accessors;
+
+	/**
+	 * Creates a new {@link ClassGeneratingPropertyAccessorFactory}.
+	 */
+	public ClassGeneratingPropertyAccessorFactory() {
+		this.accessors = new ConcurrentHashMap<Class<?>, PersistentPropertyAccessor>();
+	}
+
+	/**
+	 * Returns the {@link PersistentPropertyAccessor} for the given {@link MongoPersistentEntity}, generating it on first
+	 * access.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	public PersistentPropertyAccessor getPropertyAccessor(MongoPersistentEntity<?> entity) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+
+		PersistentPropertyAccessor accessor = accessors.get(entity.getType());
+
+		if (accessor != null) {
+			return accessor;
+		}
+
+		accessor = createPropertyAccessor(entity);
+		PersistentPropertyAccessor existing = accessors.putIfAbsent(entity.getType(), accessor);
+
+		return existing == null ? accessor : existing;
+	}
+
+	private PersistentPropertyAccessor createPropertyAccessor(MongoPersistentEntity<?> entity) {
+
+		Class<?> type = entity.getType();
+
+		if (DEFINE_CLASS == null || type.getClassLoader() == null || type.getName().startsWith("java.")) {
+			return ReflectionPropertyAccessor.INSTANCE;
+		}
+
+		List<MongoPersistentProperty> properties = getProperties(entity);
+		Map<String, Integer> indexes = new HashMap<String, Integer>();
+
+		boolean[] readable = new boolean[properties.size() * 2];
+		boolean[] writable = new boolean[properties.size() * 2];
+		boolean[] primitive = new boolean[properties.size() * 2];
+		boolean generated = false;
+
+		for (int i = 0; i < properties.size(); i++) {
+
+			MongoPersistentProperty property = properties.get(i);
+			Field field = property.getField();
+			Method getter = property.getGetter();
+			Method setter = property.getSetter();
+
+			indexes.put(property.getName(), i);
+
+			readable[2 * i] = isAccessible(field, field.getType(), type);
+			writable[2 * i] = readable[2 * i] && !Modifier.isFinal(field.getModifiers());
+			primitive[2 * i] = field.getType().isPrimitive();
+
+			readable[2 * i + 1] = getter != null && isAccessible(getter, getter.getReturnType(), type);
+			writable[2 * i + 1] = setter != null && isAccessible(setter, setter.getParameterTypes()[0], type);
+			primitive[2 * i + 1] = setter != null && setter.getParameterTypes()[0].isPrimitive();
+
+			generated |= readable[2 * i] || writable[2 * i] || readable[2 * i + 1] || writable[2 * i + 1];
+		}
+
+		if (!generated) {
+			return ReflectionPropertyAccessor.INSTANCE;
+		}
+
+		try {
+
+			Class<?> accessorType = getOrGenerateAccessorType(type, properties, readable, writable);
+			GeneratedPropertyAccessor accessor = (GeneratedPropertyAccessor) accessorType.newInstance();
+			accessor.initialize(indexes, readable, writable, primitive);
+
+			return accessor;
+
+		} catch (Exception e) {
+			LOG.debug("Could not generate property accessor for " + type.getName() + ", falling back to reflection!", e);
+		} catch (LinkageError e) {
+			LOG.debug("Could not generate property accessor for " + type.getName() + ", falling back to reflection!", e);
+		}
+
+		return ReflectionPropertyAccessor.INSTANCE;
+	}
+
+	/**
+	 * Returns the accessor class for the given entity type and property layout, generating and defining it in the
+	 * {@link ClassLoader} of the entity type if no factory did so before. The generated classes are keyed by the
+	 * {@link ClassLoader} and the layout. Neither the key nor the values reference the {@link ClassLoader} strongly.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 * @param readable must not be {@literal null}.
+	 * @param writable must not be {@literal null}.
+	 * @return
+	 * @throws Exception in case the class could not be defined.
+	 */
+	private static Class<?> getOrGenerateAccessorType(Class<?> type, List<MongoPersistentProperty> properties,
+			boolean[] readable, boolean[] writable) throws Exception {
+
+		ClassLoader classLoader = type.getClassLoader();
+		String layout = getLayout(type, properties, readable, writable);
+
+		synchronized (GENERATED_CLASSES) {
+
+			Map<String, Reference<Class<?>>> generated = GENERATED_CLASSES.get(classLoader);
+
+			if (generated == null) {
+				generated = new HashMap<String, Reference<Class<?>>>();
+				GENERATED_CLASSES.put(classLoader, generated);
+			}
+
+			Reference<Class<?>> reference = generated.get(layout);
+			Class<?> accessorType = reference == null ? null : reference.get();
+
+			if (accessorType != null) {
+				return accessorType;
+			}
+
+			String className = type.getName() + SUFFIX + COUNTER.incrementAndGet();
+			byte[] bytecode = generateAccessor(className, properties, readable, writable);
+
+			accessorType = (Class<?>) DEFINE_CLASS.invoke(classLoader, className, bytecode, 0, bytecode.length,
+					type.getProtectionDomain());
+			generated.put(layout, new WeakReference<Class<?>>(accessorType));
+
+			return accessorType;
+		}
+	}
+
+	/**
+	 * Returns a {@link String} identifying the code generated for the given entity type and properties.
+	 */
+	private static String getLayout(Class<?> type, List<MongoPersistentProperty> properties, boolean[] readable,
+			boolean[] writable) {
+
+		StringBuilder builder = new StringBuilder(type.getName());
+
+		for (int i = 0; i < properties.size(); i++) {
+
+			builder.append('|').append(properties.get(i).getName()).append(':');
+
+			for (int slot = 2 * i; slot <= 2 * i + 1; slot++) {
+				builder.append(readable[slot] ? 'r' : '-').append(writable[slot] ? 'w' : '-');
+			}
+		}
+
+		return builder.toString();
+	}
+
+	private static List<MongoPersistentProperty> getProperties(MongoPersistentEntity<?> entity) {
+
+		final List<MongoPersistentProperty> properties = new ArrayList<MongoPersistentProperty>();
+
+		entity.doWithProperties(new PropertyHandler<MongoPersistentProperty>() {
+			public void doWithPersistentProperty(MongoPersistentProperty property) {
+				properties.add(property);
+			}
+		});
+
+		entity.doWithAssociations(new AssociationHandler<MongoPersistentProperty>() {
+			public void doWithAssociation(Association<MongoPersistentProperty> association) {
+				properties.add(association.getInverse());
+			}
+		});
+
+		return properties;
+	}
+
+	/**
+	 * Returns whether a class defined in the package and {@link ClassLoader} of the given entity type can access the
+	 * given {@link Member} having a value of the given type.
+	 * 
+	 * @param member must not be {@literal null}.
+	 * @param valueType must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isAccessible(Member member, Class<?> valueType, Class<?> type) {
+
+		int modifiers = member.getModifiers();
+		Class<?> owner = member.getDeclaringClass();
+
+		if (Modifier.isPrivate(modifiers) || Modifier.isStatic(modifiers) || !isVisible(valueType, type)) {
+			return false;
+		}
+
+		if (isInPackageOf(owner, type)) {
+			return true;
+		}
+
+		return Modifier.isPublic(modifiers) && Modifier.isPublic(owner.getModifiers());
+	}
+
+	private static boolean isVisible(Class<?> candidate, Class<?> type) {
+
+		while (candidate.isArray()) {
+			candidate = candidate.getComponentType();
+		}
+
+		return candidate.isPrimitive() || Modifier.isPublic(candidate.getModifiers()) || isInPackageOf(candidate, type);
+	}
+
+	private static boolean isInPackageOf(Class<?> candidate, Class<?> type) {
+		return candidate.getClassLoader() == type.getClassLoader()
+				&& ClassUtils.getPackageName(candidate).equals(ClassUtils.getPackageName(type));
+	}
+
+	/**
+	 * Generates a subclass of {@link GeneratedPropertyAccessor}. Slot {@code 2 * i} reads and writes the field of the
+	 * property with index {@code i}, slot {@code 2 * i + 1} invokes its getter or setter.
+	 */
+	private static byte[] generateAccessor(String className, List<MongoPersistentProperty> properties,
+			boolean[] readable, boolean[] writable) {
+
+		String superName = Type.getInternalName(GeneratedPropertyAccessor.class);
+
+		ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		writer.visit(Opcodes.V1_5, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC,
+				className.replace('.', '/'), null, superName, null);
+
+		MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+		constructor.visitCode();
+		constructor.visitVarInsn(Opcodes.ALOAD, 0);
+		constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", "()V");
+		constructor.visitInsn(Opcodes.RETURN);
+		constructor.visitMaxs(0, 0);
+		constructor.visitEnd();
+
+		generateReadSlot(writer, properties, readable);
+		generateWriteSlot(writer, properties, writable);
+
+		writer.visitEnd();
+
+		return writer.toByteArray();
+	}
+
+	private static void generateReadSlot(ClassWriter writer, List<MongoPersistentProperty> properties, boolean[] slots) {
+
+		MethodVisitor method = writer.visitMethod(Opcodes.ACC_PROTECTED, "readSlot",
+				"(Ljava/lang/Object;I)Ljava/lang/Object;", null, null);
+		method.visitCode();
+
+		Label unknown = new Label();
+		Label[] labels = createLabels(slots, unknown);
+
+		method.visitVarInsn(Opcodes.ILOAD, 2);
+		method.visitTableSwitchInsn(0, slots.length - 1, unknown, labels);
+
+		for (int slot = 0; slot < slots.length; slot++) {
+
+			if (!slots[slot]) {
+				continue;
+			}
+
+			MongoPersistentProperty property = properties.get(slot / 2);
+			method.visitLabel(labels[slot]);
+
+			if (slot % 2 == 0) {
+
+				Field field = property.getField();
+				loadBean(method, field.getDeclaringClass());
+				method.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(field.getDeclaringClass()), field.getName(),
+						Type.getDescriptor(field.getType()));
+				box(method, field.getType());
+
+			} else {
+
+				Method getter = property.getGetter();
+				loadBean(method, getter.getDeclaringClass());
+				method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(getter.getDeclaringClass()),
+						getter.getName(), Type.getMethodDescriptor(getter));
+				box(method, getter.getReturnType());
+			}
+
+			method.visitInsn(Opcodes.ARETURN);
+		}
+
+		method.visitLabel(unknown);
+		throwIllegalArgumentException(method);
+
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+	}
+
+	private static void generateWriteSlot(ClassWriter writer, List<MongoPersistentProperty> properties, boolean[] slots) {
+
+		MethodVisitor method = writer.visitMethod(Opcodes.ACC_PROTECTED, "writeSlot",
+				"(Ljava/lang/Object;ILjava/lang/Object;)V", null, null);
+		method.visitCode();
+
+		Label unknown = new Label();
+		Label[] labels = createLabels(slots, unknown);
+
+		method.visitVarInsn(Opcodes.ILOAD, 2);
+		method.visitTableSwitchInsn(0, slots.length - 1, unknown, labels);
+
+		for (int slot = 0; slot < slots.length; slot++) {
+
+			if (!slots[slot]) {
+				continue;
+			}
+
+			MongoPersistentProperty property = properties.get(slot / 2);
+			method.visitLabel(labels[slot]);
+
+			if (slot % 2 == 0) {
+
+				Field field = property.getField();
+				loadBean(method, field.getDeclaringClass());
+				method.visitVarInsn(Opcodes.ALOAD, 3);
+				unbox(method, field.getType());
+				method.visitFieldInsn(Opcodes.PUTFIELD, Type.getInternalName(field.getDeclaringClass()), field.getName(),
+						Type.getDescriptor(field.getType()));
+
+			} else {
+
+				Method setter = property.getSetter();
+				loadBean(method, setter.getDeclaringClass());
+				method.visitVarInsn(Opcodes.ALOAD, 3);
+				unbox(method, setter.getParameterTypes()[0]);
+				method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(setter.getDeclaringClass()),
+						setter.getName(), Type.getMethodDescriptor(setter));
+
+				Class<?> returnType = setter.getReturnType();
+
+				if (returnType.equals(long.class) || returnType.equals(double.class)) {
+					method.visitInsn(Opcodes.POP2);
+				} else if (!returnType.equals(void.class)) {
+					method.visitInsn(Opcodes.POP);
+				}
+			}
+
+			method.visitInsn(Opcodes.RETURN);
+		}
+
+		method.visitLabel(unknown);
+		throwIllegalArgumentException(method);
+
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+	}
+
+	private static Label[] createLabels(boolean[] slots, Label unknown) {
+
+		Label[] labels = new Label[slots.length];
+
+		for (int i = 0; i < slots.length; i++) {
+			labels[i] = slots[i] ? new Label() : unknown;
+		}
+
+		return labels;
+	}
+
+	private static void loadBean(MethodVisitor method, Class<?> owner) {
+		method.visitVarInsn(Opcodes.ALOAD, 1);
+		method.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(owner));
+	}
+
+	private static void box(MethodVisitor method, Class<?> type) {
+
+		if (!type.isPrimitive()) {
+			return;
+		}
+
+		Class<?> wrapper = ClassUtils.resolvePrimitiveIfNecessary(type);
+		method.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(wrapper), "valueOf",
+				"(" + Type.getDescriptor(type) + ")" + Type.getDescriptor(wrapper));
+	}
+
+	private static void unbox(MethodVisitor method, Class<?> type) {
+
+		if (!type.isPrimitive()) {
+			if (!Object.class.equals(type)) {
+				method.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+			}
+			return;
+		}
+
+		String wrapper = Type.getInternalName(ClassUtils.resolvePrimitiveIfNecessary(type));
+		method.visitTypeInsn(Opcodes.CHECKCAST, wrapper);
+		method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, wrapper, type.getName() + "Value", "()" + Type.getDescriptor(type));
+	}
+
+	private static void throwIllegalArgumentException(MethodVisitor method) {
+
+		String exception = Type.getInternalName(IllegalArgumentException.class);
+
+		method.visitTypeInsn(Opcodes.NEW, exception);
+		method.visitInsn(Opcodes.DUP);
+		method.visitMethodInsn(Opcodes.INVOKESPECIAL, exception, "<init>", "()V");
+		method.visitInsn(Opcodes.ATHROW);
+	}
+
+	/**
+	 * Base class of the generated {@link PersistentPropertyAccessor}s. Has to be public as the generated subclasses
+	 * live in the packages of the entity types. Falls back to reflection for the members the generated subclass
+	 * cannot access and for {@literal null} values to be set on primitive properties.
+	 */
+	public abstract static class GeneratedPropertyAccessor implements PersistentPropertyAccessor {
+
+		private Map<String, Integer> indexes;
+		private boolean[] readable;
+		private boolean[] writable;
+		private boolean[] primitive;
+
+		void initialize(Map<String, Integer> indexes, boolean[] readable, boolean[] writable, boolean[] primitive) {
+
+			this.indexes = indexes;
+			this.readable = readable;
+			this.writable = writable;
+			this.primitive = primitive;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.convert.PersistentPropertyAccessor#getProperty(java.lang.Object, org.springframework.data.mongodb.core.mapping.MongoPersistentProperty, boolean)
+		 */
+		public Object getProperty(Object bean, MongoPersistentProperty property, boolean fieldAccessOnly) {
+
+			int slot = getSlot(property, fieldAccessOnly || property.getGetter() == null);
+
+			if (slot < 0 || !readable[slot]) {
+				return ReflectionPropertyAccessor.INSTANCE.getProperty(bean, property, fieldAccessOnly);
+			}
+
+			return readSlot(bean, slot);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.core.convert.PersistentPropertyAccessor#setProperty(java.lang.Object, org.springframework.data.mongodb.core.mapping.MongoPersistentProperty, java.lang.Object, boolean)
+		 */
+		public void setProperty(Object bean, MongoPersistentProperty property, Object value, boolean fieldAccessOnly) {
+
+			int slot = getSlot(property, fieldAccessOnly || property.getSetter() == null);
+
+			if (slot < 0 || !writable[slot] || (value == null && primitive[slot])) {
+				ReflectionPropertyAccessor.INSTANCE.setProperty(bean, property, value, fieldAccessOnly);
+				return;
+			}
+
+			writeSlot(bean, slot, value);
+		}
+
+		/**
+		 * Returns whether the given {@link MongoPersistentProperty} is read without reflection.
+		 * 
+		 * @param property must not be {@literal null}.
+		 * @param fieldAccessOnly
+		 * @return
+		 */
+		boolean isGenerated(MongoPersistentProperty property, boolean fieldAccessOnly) {
+
+			int slot = getSlot(property, fieldAccessOnly || property.getGetter() == null);
+			return slot >= 0 && readable[slot];
+		}
+
+		private int getSlot(MongoPersistentProperty property, boolean useField) {
+
+			Integer index = indexes.get(property.getName());
+			return index == null ? -1 : 2 * index + (useField ? 0 : 1);
+		}
+
+		protected abstract Object readSlot(Object bean, int slot);
+
+		protected abstract void writeSlot(Object bean, int slot, Object value);
+	}
+}
@@ -21,6 +21,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,6 +67,10 @@ public class CustomConversions {
 
 	private final List<Object> converters;
 
+	private final ConcurrentMap<TypePair, CacheValue> customReadTargetTypes;
+	private final ConcurrentMap<TypePair, CacheValue> customWriteTargetTypes;
+	private final ConcurrentMap<Class<?>, CacheValue> rawWriteTargetTypes;
+
 	/**
 	 * Creates an empty {@link CustomConversions} object.
 	 */
@@ -84,6 +90,9 @@ public class CustomConversions {
 		this.readingPairs = new HashSet<ConvertiblePair>();
 		this.writingPairs = new HashSet<ConvertiblePair>();
 		this.customSimpleTypes = new HashSet<Class<?>>();
+		this.customReadTargetTypes = new ConcurrentHashMap<TypePair, CacheValue>();
+		this.customWriteTargetTypes = new ConcurrentHashMap<TypePair, CacheValue>();
+		this.rawWriteTargetTypes = new ConcurrentHashMap<Class<?>, CacheValue>();
 
 		this.converters = new ArrayList<Object>();
 		this.converters.add(CustomToStringConverter.INSTANCE);
@@ -231,8 +240,21 @@ public class CustomConversions {
 	 * @return
 	 */
 	public Class<?> getCustomWriteTarget(Class<?> source, Class<?> expectedTargetType) {
+
 		Assert.notNull(source);
-		return getCustomTarget(source, expectedTargetType, writingPairs);
+
+		if (expectedTargetType != null) {
+			return getCustomTarget(source, expectedTargetType, writingPairs, customWriteTargetTypes);
+		}
+
+		CacheValue cachedTarget = rawWriteTargetTypes.get(source);
+
+		if (cachedTarget == null) {
+			cachedTarget = new CacheValue(getCustomTarget(source, null, writingPairs));
+			rawWriteTargetTypes.putIfAbsent(source, cachedTarget);
+		}
+
+		return cachedTarget.getType();
 	}
 
 	/**
@@ -268,7 +290,42 @@ public class CustomConversions {
 	public boolean hasCustomReadTarget(Class<?> source, Class<?> expectedTargetType) {
 		Assert.notNull(source);
 		Assert.notNull(expectedTargetType);
-		return getCustomTarget(source, expectedTargetType, readingPairs) != null;
+		return getCustomTarget(source, expectedTargetType, readingPairs, customReadTargetTypes) != null;
+	}
+
+	/**
+	 * Looks up the custom target type for the given source and expected target type in the given cache, inspecting the
+	 * given {@link ConvertiblePair}s and caching the result if not found. Caches negative lookups as well. The cache is
+	 * keyed by {@link TypePair} as {@link ConvertiblePair} does not implement {@link Object#equals(Object)} and
+	 * {@link Object#hashCode()} on all supported Spring versions.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param expectedTargetType must not be {@literal null}.
+	 * @param pairs must not be {@literal null}.
+	 * @param cache must not be {@literal null}.
+	 * @return
+	 */
+	private static Class<?> getCustomTarget(Class<?> source, Class<?> expectedTargetType,
+			Iterable<ConvertiblePair> pairs, ConcurrentMap<TypePair, CacheValue> cache) {
+
+		TypePair lookup = new TypePair(source, expectedTargetType);
+		CacheValue cachedTarget = cache.get(lookup);
+
+		if (cachedTarget == null) {
+			cachedTarget = new CacheValue(getCustomTarget(source, expectedTargetType, pairs));
+			cache.putIfAbsent(lookup, cachedTarget);
+		}
+
+		return cachedTarget.getType();
+	}
+
+	/**
+	 * Returns the number of entries in the lookup caches.
+	 * 
+	 * @return
+	 */
+	int getCacheSize() {
+		return customReadTargetTypes.size() + customWriteTargetTypes.size() + rawWriteTargetTypes.size();
 	}
 
 	/**
@@ -297,6 +354,65 @@ public class CustomConversions {
 		return null;
 	}
 
+	/**
+	 * Cached result of a target type lookup. Allows caching negative lookups as {@link ConcurrentMap}s do not allow
+	 * {@literal null} values.
+	 */
+	private static class CacheValue {
+
+		private final Class<?> type;
+
+		public CacheValue(Class<?> type) {
+			this.type = type;
+		}
+
+		public Class<?> getType() {
+			return type;
+		}
+	}
+
+	/**
+	 * Source and target type combination used as cache key.
+	 */
+	private static class TypePair {
+
+		private final Class<?> source;
+		private final Class<?> target;
+
+		public TypePair(Class<?> source, Class<?> target) {
+			this.source = source;
+			this.target = target;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof TypePair)) {
+				return false;
+			}
+
+			TypePair that = (TypePair) obj;
+			return this.source.equals(that.source) && this.target.equals(that.target);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * source.hashCode() + target.hashCode();
+		}
+	}
+
 	@WritingConverter
 	private enum CustomToStringConverter implements GenericConverter {
 		INSTANCE;
@@ -56,8 +56,25 @@ public class DefaultMongoTypeMapper extends DefaultTypeMapper<DBObject> implemen
 		this.typeKey = typeKey;
 	}
 
+	/**
+	 * Creates a new {@link DefaultMongoTypeMapper} using a {@link TypeAliasRegistry} backed by the given
+	 * {@link MappingContext}, i.e. writing the aliases declared on the entities or fully qualified class names.
+	 * 
+	 * @param typeKey
+	 * @param mappingContext
+	 */
 	public DefaultMongoTypeMapper(String typeKey, MappingContext<? extends PersistentEntity<?, ?>, ?> mappingContext) {
-		super(new DBObjectTypeAliasAccessor(typeKey), mappingContext, Arrays.asList(SimpleTypeInformationMapper.INSTANCE));
+		this(typeKey, new TypeAliasRegistry(mappingContext));
+	}
+
+	/**
+	 * Creates a new {@link DefaultMongoTypeMapper} using the given {@link TypeAliasRegistry}.
+	 * 
+	 * @param typeKey
+	 * @param registry must not be {@literal null}.
+	 */
+	public DefaultMongoTypeMapper(String typeKey, TypeAliasRegistry registry) {
+		super(new DBObjectTypeAliasAccessor(typeKey), Arrays.asList(registry));
 		this.typeKey = typeKey;
 	}
 
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Immutable description of how to read and write a {@link MongoPersistentEntity}. Resolves which properties have to be
+ * read and written and whether their values are simple ones once, so that converting a document boils down to a loop
+ * over the {@link PropertyPlan}s.
+ */
+class EntityConversionPlan {
+
+	private final MongoPersistentProperty idProperty;
+	private final PropertyPlan[] readPlans;
+	private final PropertyPlan[] writePlans;
+
+	/**
+	 * Creates a new {@link EntityConversionPlan} for the given {@link MongoPersistentEntity}.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param conversions must not be {@literal null}.
+	 */
+	public EntityConversionPlan(final MongoPersistentEntity<?> entity, final CustomConversions conversions) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+		Assert.notNull(conversions, "CustomConversions must not be null!");
+
+		final MongoPersistentProperty idProperty = entity.getIdProperty();
+		final List<PropertyPlan> readPlans = new ArrayList<PropertyPlan>();
+		final List<PropertyPlan> writePlans = new ArrayList<PropertyPlan>();
+
+		entity.doWithProperties(new PropertyHandler<MongoPersistentProperty>() {
+			public void doWithPersistentProperty(MongoPersistentProperty property) {
+
+				PropertyPlan plan = new PropertyPlan(property, false, conversions);
+
+				if (!entity.isConstructorArgument(property)) {
+					readPlans.add(plan);
+				}
+
+				if (!property.equals(idProperty)) {
+					writePlans.add(plan);
+				}
+			}
+		});
+
+		entity.doWithAssociations(new AssociationHandler<MongoPersistentProperty>() {
+			public void doWithAssociation(Association<MongoPersistentProperty> association) {
+
+				PropertyPlan plan = new PropertyPlan(association.getInverse(), true, conversions);
+
+				readPlans.add(plan);
+				writePlans.add(plan);
+			}
+		});
+
+		this.idProperty = idProperty;
+		this.readPlans = readPlans.toArray(new PropertyPlan[readPlans.size()]);
+		this.writePlans = writePlans.toArray(new PropertyPlan[writePlans.size()]);
+	}
+
+	/**
+	 * Returns the id property of the entity.
+	 * 
+	 * @return the id property or {@literal null} if the entity does not have one.
+	 */
+	public MongoPersistentProperty getIdProperty() {
+		return idProperty;
+	}
+
+	/**
+	 * Returns the {@link PropertyPlan}s of the properties to be set after instantiating the entity, i.e. all properties
+	 * but the ones set through the constructor.
+	 * 
+	 * @return
+	 */
+	public PropertyPlan[] getReadPlans() {
+		return readPlans;
+	}
+
+	/**
+	 * Returns the {@link PropertyPlan}s of the properties to be written, i.e. all properties but the id property.
+	 * 
+	 * @return
+	 */
+	public PropertyPlan[] getWritePlans() {
+		return writePlans;
+	}
+
+	/**
+	 * Resolved conversion information for a single {@link MongoPersistentProperty}.
+	 */
+	static class PropertyPlan {
+
+		private final MongoPersistentProperty property;
+		private final String fieldName;
+		private final Class<?> type;
+		private final boolean association;
+		private final Boolean simple;
+
+		PropertyPlan(MongoPersistentProperty property, boolean association, CustomConversions conversions) {
+
+			this.property = property;
+			this.fieldName = property.getFieldName();
+			this.type = property.getType();
+			this.association = association;
+			this.simple = association ? Boolean.FALSE : isSimpleIfFinal(type, conversions);
+		}
+
+		/**
+		 * Returns whether values of the given type are simple ones if all values have to be of that very type, i.e. if
+		 * the type is a primitive or final one.
+		 * 
+		 * @return the decision or {@literal null} if it has to be made per value.
+		 */
+		private static Boolean isSimpleIfFinal(Class<?> type, CustomConversions conversions) {
+
+			if (!type.isPrimitive() && !Modifier.isFinal(type.getModifiers()) || type.isArray()) {
+				return null;
+			}
+
+			return conversions.isSimpleType(ClassUtils.resolvePrimitiveIfNecessary(type));
+		}
+
+		public MongoPersistentProperty getProperty() {
+			return property;
+		}
+
+		public String getFieldName() {
+			return fieldName;
+		}
+
+		public Class<?> getType() {
+			return type;
+		}
+
+		/**
+		 * Returns whether the property is the inverse side of an association. Associations are always read, no matter
+		 * whether the document contains a value for them, and never written as simple values.
+		 * 
+		 * @return
+		 */
+		public boolean isAssociation() {
+			return association;
+		}
+
+		/**
+		 * Returns whether the given non-{@literal null} value of the property is a simple one.
+		 * 
+		 * @param value must not be {@literal null}.
+		 * @param conversions must not be {@literal null}.
+		 * @return
+		 */
+		public boolean isSimpleValue(Object value, CustomConversions conversions) {
+			return simple != null ? simple : conversions.isSimpleType(value.getClass());
+		}
+	}
+}
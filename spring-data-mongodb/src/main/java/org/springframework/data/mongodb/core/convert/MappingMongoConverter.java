@@ -15,7 +15,7 @@
  */
 package org.springframework.data.mongodb.core.convert;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -24,6 +24,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,11 +38,7 @@ import org.springframework.core.convert.ConversionException;
 import org.springframework.core.convert.support.ConversionServiceFactory;
 import org.springframework.data.convert.EntityInstantiator;
 import org.springframework.data.convert.TypeMapper;
-import org.springframework.data.mapping.Association;
-import org.springframework.data.mapping.AssociationHandler;
-import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.context.MappingContext;
-import org.springframework.data.mapping.model.BeanWrapper;
 import org.springframework.data.mapping.model.DefaultSpELExpressionEvaluator;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.mapping.model.ParameterValueProvider;
@@ -48,18 +47,22 @@ import org.springframework.data.mapping.model.PropertyValueProvider;
 import org.springframework.data.mapping.model.SpELContext;
 import org.springframework.data.mapping.model.SpELExpressionEvaluator;
 import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.convert.EntityConversionPlan.PropertyPlan;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Deadline;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DB;
+import com.mongodb.DBCursor;
 import com.mongodb.DBObject;
 import com.mongodb.DBRef;
 
@@ -80,10 +83,13 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 	protected final QueryMapper idMapper;
 	protected ApplicationContext applicationContext;
 	protected boolean useFieldAccessOnly = true;
+	protected boolean generatePropertyAccessors = true;
 	protected MongoTypeMapper typeMapper;
 	protected String mapKeyDotReplacement = null;
 
 	private SpELContext spELContext;
+	private final ClassGeneratingPropertyAccessorFactory accessorFactory = new ClassGeneratingPropertyAccessorFactory();
+	private final ConcurrentMap<Class<?>, EntityConversionPlan> conversionPlans;
 
 	/**
 	 * Creates a new {@link MappingMongoConverter} given the new {@link MongoDbFactory} and {@link MappingContext}.
@@ -106,6 +112,18 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		this.idMapper = new QueryMapper(this);
 
 		this.spELContext = new SpELContext(DBObjectPropertyAccessor.INSTANCE);
+		this.conversionPlans = new ConcurrentHashMap<Class<?>, EntityConversionPlan>();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.convert.AbstractMongoConverter#setCustomConversions(org.springframework.data.mongodb.core.convert.CustomConversions)
+	 */
+	@Override
+	public void setCustomConversions(CustomConversions conversions) {
+
+		super.setCustomConversions(conversions);
+		this.conversionPlans.clear();
 	}
 
 	/**
@@ -152,6 +170,17 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		this.useFieldAccessOnly = useFieldAccessOnly;
 	}
 
+	/**
+	 * Configures whether to generate a class per entity type accessing the properties of the entity directly. Properties
+	 * the generated class cannot access, e.g. private fields, are accessed reflectively anyway. Defaults to
+	 * {@literal true}, setting this to {@literal false} will access all properties reflectively.
+	 * 
+	 * @param generatePropertyAccessors
+	 */
+	public void setGeneratePropertyAccessors(boolean generatePropertyAccessors) {
+		this.generatePropertyAccessors = generatePropertyAccessors;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
@@ -227,41 +256,19 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 
 		ParameterValueProvider<MongoPersistentProperty> provider = getParameterProvider(entity, dbo, evaluator, parent);
 		EntityInstantiator instantiator = instantiators.getInstantiatorFor(entity);
-		S instance = instantiator.createInstance(entity, provider);
-
-		final BeanWrapper<MongoPersistentEntity<S>, S> wrapper = BeanWrapper.create(instance, conversionService);
-		final S result = wrapper.getBean();
+		S result = instantiator.createInstance(entity, provider);
+		PersistentPropertyAccessor accessor = getPropertyAccessor(entity);
 
-		// Set properties not already set in the constructor
-		entity.doWithProperties(new PropertyHandler<MongoPersistentProperty>() {
-			public void doWithPersistentProperty(MongoPersistentProperty prop) {
+		// Set properties not already set in the constructor, associations are set no matter what
+		for (PropertyPlan plan : getConversionPlan(entity).getReadPlans()) {
 
-				boolean isConstructorProperty = entity.isConstructorArgument(prop);
-				boolean hasValueForProperty = dbo.containsField(prop.getFieldName());
-
-				if (!hasValueForProperty || isConstructorProperty) {
-					return;
-				}
-
-				Object obj = getValueInternal(prop, dbo, evaluator, result);
-				wrapper.setProperty(prop, obj, useFieldAccessOnly);
-			}
-		});
-
-		// Handle associations
-		entity.doWithAssociations(new AssociationHandler<MongoPersistentProperty>() {
-			public void doWithAssociation(Association<MongoPersistentProperty> association) {
-				MongoPersistentProperty inverseProp = association.getInverse();
-				Object obj = getValueInternal(inverseProp, dbo, evaluator, result);
-				try {
-					wrapper.setProperty(inverseProp, obj);
-				} catch (IllegalAccessException e) {
-					throw new MappingException(e.getMessage(), e);
-				} catch (InvocationTargetException e) {
-					throw new MappingException(e.getMessage(), e);
-				}
+			if (!plan.isAssociation() && !dbo.containsField(plan.getFieldName())) {
+				continue;
 			}
-		});
+
+			Object obj = getValueInternal(plan.getProperty(), dbo, evaluator, result);
+			setProperty(accessor, result, plan.getProperty(), obj, useFieldAccessOnly && !plan.isAssociation());
+		}
 
 		return result;
 	}
@@ -340,7 +347,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		addCustomTypeKeyIfNecessary(typeHint, obj, dbo);
 	}
 
-	protected void writeInternal(Object obj, final DBObject dbo, MongoPersistentEntity<?> entity) {
+	protected void writeInternal(Object obj, DBObject dbo, MongoPersistentEntity<?> entity) {
 
 		if (obj == null) {
 			return;
@@ -350,49 +357,55 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			throw new MappingException("No mapping metadata found for entity of type " + obj.getClass().getName());
 		}
 
-		final BeanWrapper<MongoPersistentEntity<Object>, Object> wrapper = BeanWrapper.create(obj, conversionService);
+		PersistentPropertyAccessor accessor = getPropertyAccessor(entity);
+		EntityConversionPlan conversionPlan = getConversionPlan(entity);
 
 		// Write the ID
-		final MongoPersistentProperty idProperty = entity.getIdProperty();
+		MongoPersistentProperty idProperty = conversionPlan.getIdProperty();
 		if (!dbo.containsField("_id") && null != idProperty) {
 
 			try {
-				Object id = wrapper.getProperty(idProperty, Object.class, useFieldAccessOnly);
+				Object id = getProperty(accessor, obj, idProperty, Object.class);
 				dbo.put("_id", idMapper.convertId(id));
 			} catch (ConversionException ignored) {
 			}
 		}
 
-		// Write the properties
-		entity.doWithProperties(new PropertyHandler<MongoPersistentProperty>() {
-			public void doWithPersistentProperty(MongoPersistentProperty prop) {
+		// Write the properties and associations
+		for (PropertyPlan plan : conversionPlan.getWritePlans()) {
 
-				if (prop.equals(idProperty)) {
-					return;
-				}
+			Object propertyObj = getProperty(accessor, obj, plan.getProperty(), plan.getType());
 
-				Object propertyObj = wrapper.getProperty(prop, prop.getType(), useFieldAccessOnly);
-
-				if (null != propertyObj) {
-					if (!conversions.isSimpleType(propertyObj.getClass())) {
-						writePropertyInternal(propertyObj, dbo, prop);
-					} else {
-						writeSimpleInternal(propertyObj, dbo, prop.getFieldName());
-					}
-				}
+			if (null == propertyObj) {
+				continue;
 			}
-		});
-
-		entity.doWithAssociations(new AssociationHandler<MongoPersistentProperty>() {
-			public void doWithAssociation(Association<MongoPersistentProperty> association) {
-				MongoPersistentProperty inverseProp = association.getInverse();
-				Class<?> type = inverseProp.getType();
-				Object propertyObj = wrapper.getProperty(inverseProp, type, useFieldAccessOnly);
-				if (null != propertyObj) {
-					writePropertyInternal(propertyObj, dbo, inverseProp);
-				}
+
+			if (plan.isSimpleValue(propertyObj, conversions)) {
+				writeSimpleInternal(propertyObj, dbo, plan.getFieldName());
+			} else {
+				writePropertyInternal(propertyObj, dbo, plan.getProperty());
 			}
-		});
+		}
+	}
+
+	/**
+	 * Returns the {@link EntityConversionPlan} for the given {@link MongoPersistentEntity}, creating it on first access.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	private EntityConversionPlan getConversionPlan(MongoPersistentEntity<?> entity) {
+
+		EntityConversionPlan plan = conversionPlans.get(entity.getType());
+
+		if (plan != null) {
+			return plan;
+		}
+
+		plan = new EntityConversionPlan(entity, conversions);
+		EntityConversionPlan existing = conversionPlans.putIfAbsent(entity.getType(), plan);
+
+		return existing == null ? plan : existing;
 	}
 
 	@SuppressWarnings({ "unchecked" })
@@ -688,8 +701,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			throw new MappingException("No id property found on class " + targetEntity.getType());
 		}
 
-		BeanWrapper<MongoPersistentEntity<Object>, Object> wrapper = BeanWrapper.create(target, conversionService);
-		Object id = wrapper.getProperty(idProperty, Object.class, useFieldAccessOnly);
+		Object id = getProperty(getPropertyAccessor(targetEntity), target, idProperty, Object.class);
 
 		if (null == id) {
 			throw new MappingException("Cannot create a reference to an object with a NULL id.");
@@ -701,10 +713,47 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		return new DBRef(db, targetEntity.getCollection(), idMapper.convertId(id));
 	}
 
+	/**
+	 * Returns the {@link PersistentPropertyAccessor} to read and write the properties of the given entity with.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	protected PersistentPropertyAccessor getPropertyAccessor(MongoPersistentEntity<?> entity) {
+		return generatePropertyAccessors ? accessorFactory.getPropertyAccessor(entity)
+				: ReflectionPropertyAccessor.INSTANCE;
+	}
+
+	private Object getProperty(PersistentPropertyAccessor accessor, Object bean, MongoPersistentProperty property,
+			Class<?> type) {
+
+		Object value = accessor.getProperty(bean, property, useFieldAccessOnly);
+		return getPotentiallyConvertedValue(value, type);
+	}
+
+	private void setProperty(PersistentPropertyAccessor accessor, Object bean, MongoPersistentProperty property,
+			Object value, boolean fieldAccessOnly) {
+
+		Method setter = property.getSetter();
+		Class<?> type = fieldAccessOnly || setter == null ? property.getType() : setter.getParameterTypes()[0];
+
+		accessor.setProperty(bean, property, getPotentiallyConvertedValue(value, type), fieldAccessOnly);
+	}
+
+	private Object getPotentiallyConvertedValue(Object value, Class<?> type) {
+
+		if (value == null || ClassUtils.isAssignableValue(type, value)) {
+			return value;
+		}
+
+		return conversionService.convert(value, type);
+	}
+
 	protected Object getValueInternal(MongoPersistentProperty prop, DBObject dbo, SpELExpressionEvaluator eval,
 			Object parent) {
 
-		MongoDbPropertyValueProvider provider = new MongoDbPropertyValueProvider(dbo, spELContext, parent);
+		MongoDbPropertyValueProvider provider = eval == null ? new MongoDbPropertyValueProvider(dbo, spELContext, parent)
+				: new MongoDbPropertyValueProvider(dbo, eval, parent);
 		return provider.getPropertyValue(prop);
 	}
 
@@ -737,8 +786,8 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			Object dbObjItem = sourceValue.get(i);
 
 			if (dbObjItem instanceof DBRef) {
-				items.add(DBRef.class.equals(rawComponentType) ? dbObjItem : read(componentType, ((DBRef) dbObjItem).fetch(),
-						parent));
+				items.add(DBRef.class.equals(rawComponentType) ? dbObjItem : read(componentType,
+						fetch((DBRef) dbObjItem), parent));
 			} else if (dbObjItem instanceof DBObject) {
 				items.add(read(componentType, (DBObject) dbObjItem, parent));
 			} else {
@@ -785,7 +834,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			if (value instanceof DBObject) {
 				map.put(key, read(valueType, (DBObject) value, parent));
 			} else if (value instanceof DBRef) {
-				map.put(key, DBRef.class.equals(rawValueType) ? value : read(valueType, ((DBRef) value).fetch()));
+				map.put(key, DBRef.class.equals(rawValueType) ? value : read(valueType, fetch((DBRef) value)));
 			} else {
 				Class<?> valueClass = valueType == null ? null : valueType.getType();
 				map.put(key, getPotentiallyConvertedSimpleRead(value, valueClass));
@@ -795,6 +844,33 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 		return map;
 	}
 
+	/**
+	 * Resolves the given {@link DBRef}. If a {@link Deadline} is bound to the current thread the lookup is limited to
+	 * the remaining time and fails right away if it has passed already.
+	 * 
+	 * @param dbRef must not be {@literal null}.
+	 * @return the referenced {@link DBObject} or {@literal null} if it does not exist.
+	 */
+	protected DBObject fetch(DBRef dbRef) {
+
+		Deadline deadline = Deadline.current();
+
+		if (deadline == null) {
+			return dbRef.fetch();
+		}
+
+		deadline.check();
+
+		DBCursor cursor = dbRef.getDB().getCollection(dbRef.getRef()).find(new BasicDBObject("_id", dbRef.getId()));
+		cursor.addSpecial("$maxTimeMS", Math.max(1, deadline.getRemaining(TimeUnit.MILLISECONDS))).limit(-1);
+
+		try {
+			return cursor.hasNext() ? cursor.next() : null;
+		} finally {
+			cursor.close();
+		}
+	}
+
 	protected <T> List<?> unwrapList(BasicDBList dbList, TypeInformation<T> targetType) {
 		List<Object> rootList = new ArrayList<Object>();
 		for (int i = 0; i < dbList.size(); i++) {
@@ -916,7 +992,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			this(source, new DefaultSpELExpressionEvaluator(source, factory), parent);
 		}
 
-		public MongoDbPropertyValueProvider(DBObject source, DefaultSpELExpressionEvaluator evaluator, Object parent) {
+		public MongoDbPropertyValueProvider(DBObject source, SpELExpressionEvaluator evaluator, Object parent) {
 
 			Assert.notNull(source);
 			Assert.notNull(evaluator);
@@ -946,7 +1022,7 @@ public class MappingMongoConverter extends AbstractMongoConverter implements App
 			if (conversions.hasCustomReadTarget(value.getClass(), rawType)) {
 				return (T) conversionService.convert(value, rawType);
 			} else if (value instanceof DBRef) {
-				return (T) (rawType.equals(DBRef.class) ? value : read(type, ((DBRef) value).fetch(), parent));
+				return (T) (rawType.equals(DBRef.class) ? value : read(type, fetch((DBRef) value), parent));
 			} else if (value instanceof BasicDBList) {
 				return (T) getPotentiallyConvertedSimpleRead(readCollectionOrArray(type, (BasicDBList) value, parent), rawType);
 			} else if (value instanceof DBObject) {
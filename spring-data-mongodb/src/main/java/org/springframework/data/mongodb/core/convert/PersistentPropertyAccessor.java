@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+/**
+ * Strategy to read and write the values of {@link MongoPersistentProperty}s of entity instances. Implementations are
+ * created once per entity type and have to be thread-safe.
+ */
+public interface PersistentPropertyAccessor {
+
+	/**
+	 * Returns the value of the given {@link MongoPersistentProperty} of the given bean. Uses the getter of the property
+	 * if present unless {@code fieldAccessOnly} is set.
+	 * 
+	 * @param bean must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @param fieldAccessOnly whether to read the field even if a getter is present.
+	 * @return
+	 */
+	Object getProperty(Object bean, MongoPersistentProperty property, boolean fieldAccessOnly);
+
+	/**
+	 * Sets the given {@link MongoPersistentProperty} of the given bean to the given value. Uses the setter of the
+	 * property if present unless {@code fieldAccessOnly} is set. The value has to be assignable to the type of the
+	 * field or the setter parameter already.
+	 * 
+	 * @param bean must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @param value can be {@literal null}.
+	 * @param fieldAccessOnly whether to write the field even if a setter is present.
+	 */
+	void setProperty(Object bean, MongoPersistentProperty property, Object value, boolean fieldAccessOnly);
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link PersistentPropertyAccessor} using reflection to access fields, getters and setters.
+ */
+class ReflectionPropertyAccessor implements PersistentPropertyAccessor {
+
+	static final PersistentPropertyAccessor INSTANCE = new ReflectionPropertyAccessor();
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.convert.PersistentPropertyAccessor#getProperty(java.lang.Object, org.springframework.data.mongodb.core.mapping.MongoPersistentProperty, boolean)
+	 */
+	public Object getProperty(Object bean, MongoPersistentProperty property, boolean fieldAccessOnly) {
+
+		Method getter = property.getGetter();
+
+		if (fieldAccessOnly || getter == null) {
+			Field field = property.getField();
+			ReflectionUtils.makeAccessible(field);
+			return ReflectionUtils.getField(field, bean);
+		}
+
+		ReflectionUtils.makeAccessible(getter);
+		return ReflectionUtils.invokeMethod(getter, bean);
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.convert.PersistentPropertyAccessor#setProperty(java.lang.Object, org.springframework.data.mongodb.core.mapping.MongoPersistentProperty, java.lang.Object, boolean)
+	 */
+	public void setProperty(Object bean, MongoPersistentProperty property, Object value, boolean fieldAccessOnly) {
+
+		Method setter = property.getSetter();
+
+		if (fieldAccessOnly || setter == null) {
+			Field field = property.getField();
+			ReflectionUtils.makeAccessible(field);
+			ReflectionUtils.setField(field, bean, value);
+			return;
+		}
+
+		ReflectionUtils.makeAccessible(setter);
+		ReflectionUtils.invokeMethod(setter, bean, value);
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.convert.TypeInformationMapper;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link TypeInformationMapper} mapping types to compact aliases, either {@link String}s or small integer codes.
+ * Aliases can be registered explicitly or declared using {@link TypeAlias} on entities of the given
+ * {@link MappingContext}. Types without an alias are written using their fully qualified class name, which is also
+ * accepted when reading so that documents written before an alias was introduced can still be read. Resolved types
+ * are cached, so reading a type alias is a single lookup in the common case.
+ */
+public class TypeAliasRegistry implements TypeInformationMapper {
+
+	private static final Object NO_ALIAS = new Object();
+
+	private final MappingContext<? extends PersistentEntity<?, ?>, ?> mappingContext;
+	private final ConcurrentMap<Class<?>, Object> aliases;
+	private final ConcurrentMap<Object, ClassTypeInformation<?>> types;
+
+	private int scannedEntities = 0;
+
+	/**
+	 * Creates a new {@link TypeAliasRegistry} only using explicitly registered aliases.
+	 */
+	public TypeAliasRegistry() {
+		this(null);
+	}
+
+	/**
+	 * Creates a new {@link TypeAliasRegistry} considering the aliases declared on the entities of the given
+	 * {@link MappingContext}.
+	 * 
+	 * @param mappingContext can be {@literal null}.
+	 */
+	public TypeAliasRegistry(MappingContext<? extends PersistentEntity<?, ?>, ?> mappingContext) {
+
+		this.mappingContext = mappingContext;
+		this.aliases = new ConcurrentHashMap<Class<?>, Object>();
+		this.types = new ConcurrentHashMap<Object, ClassTypeInformation<?>>();
+	}
+
+	/**
+	 * Registers the given alias for the given type. Numeric aliases are stored as {@link Integer}s.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param alias must be a {@link String} or a {@link Number}.
+	 * @throws MappingException in case the alias is already registered for a different type or the type is already
+	 *           registered using a different alias.
+	 */
+	public void registerAlias(Class<?> type, Object alias) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.isTrue(alias instanceof String || alias instanceof Number, "Alias must be a String or a Number!");
+
+		Object key = normalize(alias);
+		registerType(key, type);
+
+		Object existingAlias = aliases.put(type, key);
+
+		if (existingAlias != null && existingAlias != NO_ALIAS && !existingAlias.equals(key)) {
+			throw new MappingException(String.format("Type %s already registered with alias %s!", type.getName(),
+					existingAlias));
+		}
+	}
+
+	/**
+	 * Registers the given aliases. Allows configuring the registry in XML.
+	 * 
+	 * @param aliases must not be {@literal null}.
+	 */
+	public void setTypeAliases(Map<Class<?>, ?> aliases) {
+
+		Assert.notNull(aliases, "Aliases must not be null!");
+
+		for (Entry<Class<?>, ?> entry : aliases.entrySet()) {
+			registerAlias(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.convert.TypeInformationMapper#createAliasFor(org.springframework.data.util.TypeInformation)
+	 */
+	public Object createAliasFor(TypeInformation<?> type) {
+
+		Class<?> rawType = type.getType();
+		Object alias = aliases.get(rawType);
+
+		if (alias == null) {
+			alias = lookupDeclaredAlias(type);
+		}
+
+		return alias == NO_ALIAS ? rawType.getName() : alias;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.convert.TypeInformationMapper#resolveTypeFrom(java.lang.Object)
+	 */
+	public ClassTypeInformation<?> resolveTypeFrom(Object alias) {
+
+		if (!(alias instanceof String || alias instanceof Number)) {
+			return null;
+		}
+
+		Object key = normalize(alias);
+		ClassTypeInformation<?> type = types.get(key);
+
+		if (type != null) {
+			return type;
+		}
+
+		type = lookupDeclaredType(key);
+
+		if (type == null && key instanceof String) {
+			type = loadType((String) key);
+		}
+
+		if (type != null) {
+			types.putIfAbsent(key, type);
+		}
+
+		return type;
+	}
+
+	/**
+	 * Looks up the alias declared for the given type on its {@link PersistentEntity} and caches it.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return the alias or {@link #NO_ALIAS} if none is declared.
+	 * @throws MappingException in case the declared alias is already registered for a different type.
+	 */
+	private Object lookupDeclaredAlias(TypeInformation<?> type) {
+
+		Class<?> rawType = type.getType();
+		PersistentEntity<?, ?> entity = mappingContext == null ? null : mappingContext.getPersistentEntity(type);
+		Object alias = entity == null ? null : entity.getTypeAlias();
+
+		if (alias == null) {
+			types.putIfAbsent(rawType.getName(), ClassTypeInformation.from(rawType));
+			aliases.putIfAbsent(rawType, NO_ALIAS);
+			return NO_ALIAS;
+		}
+
+		Object key = normalize(alias);
+		registerType(key, rawType);
+		aliases.put(rawType, key);
+
+		return key;
+	}
+
+	/**
+	 * Inspects the {@link PersistentEntity}s added to the {@link MappingContext} since the last invocation for declared
+	 * aliases and returns the type registered for the given alias afterwards.
+	 * 
+	 * @param alias must not be {@literal null}.
+	 * @return
+	 */
+	private synchronized ClassTypeInformation<?> lookupDeclaredType(Object alias) {
+
+		if (mappingContext == null) {
+			return null;
+		}
+
+		Collection<? extends PersistentEntity<?, ?>> entities = mappingContext.getPersistentEntities();
+
+		if (entities.size() != scannedEntities) {
+
+			for (PersistentEntity<?, ?> entity : entities) {
+				if (!aliases.containsKey(entity.getType())) {
+					lookupDeclaredAlias(entity.getTypeInformation());
+				}
+			}
+
+			scannedEntities = entities.size();
+		}
+
+		return types.get(alias);
+	}
+
+	/**
+	 * Registers the given type for the given normalized alias.
+	 * 
+	 * @param key must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @throws MappingException in case the alias is already registered for a different type.
+	 */
+	private void registerType(Object key, Class<?> type) {
+
+		ClassTypeInformation<?> existingType = types.putIfAbsent(key, ClassTypeInformation.from(type));
+
+		if (existingType != null && !existingType.getType().equals(type)) {
+			throw new MappingException(String.format("Alias %s already registered for type %s!", key,
+					existingType.getType().getName()));
+		}
+	}
+
+	private static ClassTypeInformation<?> loadType(String typeName) {
+
+		try {
+			return ClassTypeInformation.from(ClassUtils.forName(typeName, ClassUtils.getDefaultClassLoader()));
+		} catch (ClassNotFoundException e) {
+			return null;
+		} catch (LinkageError e) {
+			return null;
+		}
+	}
+
+	private static Object normalize(Object alias) {
+		return alias instanceof Number ? Integer.valueOf(((Number) alias).intValue()) : alias;
+	}
+}
@@ -33,6 +33,8 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.util.StringUtils;
 
+import com.mongodb.ReadPreference;
+
 /**
  * Mongo specific {@link PersistentEntity} implementation that adds Mongo specific meta-data such as the collection name
  * and the like.
@@ -44,6 +46,7 @@ public class BasicMongoPersistentEntity<T> extends BasicPersistentEntity<T, Mong
 		MongoPersistentEntity<T>, ApplicationContextAware {
 
 	private final String collection;
+	private final ReadPreference readPreference;
 	private final SpelExpressionParser parser;
 	private final StandardEvaluationContext context;
 
@@ -66,8 +69,10 @@ public class BasicMongoPersistentEntity<T> extends BasicPersistentEntity<T, Mong
 		if (rawType.isAnnotationPresent(Document.class)) {
 			Document d = rawType.getAnnotation(Document.class);
 			this.collection = StringUtils.hasText(d.collection()) ? d.collection() : fallback;
+			this.readPreference = d.readPreference().getReadPreference();
 		} else {
 			this.collection = fallback;
+			this.readPreference = null;
 		}
 	}
 
@@ -92,6 +97,14 @@ public class BasicMongoPersistentEntity<T> extends BasicPersistentEntity<T, Mong
 		return expression.getValue(context, String.class);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.core.mapping.MongoPersistentEntity#getReadPreference()
+	 */
+	public ReadPreference getReadPreference() {
+		return readPreference;
+	}
+
 	/**
 	 * {@link Comparator} implementation inspecting the {@link MongoPersistentProperty}'s order.
 	 * 
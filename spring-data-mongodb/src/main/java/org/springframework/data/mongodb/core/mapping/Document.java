@@ -23,6 +23,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.springframework.data.annotation.Persistent;
+import org.springframework.data.mongodb.core.query.ReadPreferenceType;
 
 /**
  * Identifies a domain object to be persisted to MongoDB.
@@ -37,4 +38,12 @@ import org.springframework.data.annotation.Persistent;
 public @interface Document {
 
 	String collection() default "";
+
+	/**
+	 * Defines the {@link com.mongodb.ReadPreference} to read entities of the annotated type with unless the query
+	 * executed defines one itself. Defaults to the one configured on the template.
+	 * 
+	 * @return
+	 */
+	ReadPreferenceType readPreference() default ReadPreferenceType.DEFAULT;
 }
@@ -2,6 +2,8 @@ package org.springframework.data.mongodb.core.mapping;
 
 import org.springframework.data.mapping.PersistentEntity;
 
+import com.mongodb.ReadPreference;
+
 /**
  * 
  * @author Oliver Gierke
@@ -9,4 +11,11 @@ import org.springframework.data.mapping.PersistentEntity;
 public interface MongoPersistentEntity<T> extends PersistentEntity<T, MongoPersistentProperty> {
 
 	String getCollection();
+
+	/**
+	 * Returns the {@link ReadPreference} to read the entity with.
+	 * 
+	 * @return the {@link ReadPreference} or {@literal null} if none is configured for the entity.
+	 */
+	ReadPreference getReadPreference();
 }
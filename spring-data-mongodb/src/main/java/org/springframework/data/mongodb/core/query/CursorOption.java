@@ -0,0 +1,54 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.query;
+
+import com.mongodb.Bytes;
+
+/**
+ * Options to be applied to the {@link com.mongodb.DBCursor} created for a {@link Query}.
+ */
+public enum CursorOption {
+
+	/**
+	 * Prevents the server from timing out idle cursors after the default period of inactivity.
+	 */
+	NO_TIMEOUT(Bytes.QUERYOPTION_NOTIMEOUT),
+
+	/**
+	 * Streams the data down the wire in multiple "more" packages without waiting for getMore requests.
+	 */
+	EXHAUST(Bytes.QUERYOPTION_EXHAUST),
+
+	/**
+	 * Returns partial results from a sharded cluster if some shards are down instead of failing.
+	 */
+	PARTIAL(Bytes.QUERYOPTION_PARTIAL);
+
+	private final int value;
+
+	private CursorOption(int value) {
+		this.value = value;
+	}
+
+	/**
+	 * Returns the driver's bit flag for the option.
+	 *
+	 * @return
+	 */
+	public int getValue() {
+		return value;
+	}
+}
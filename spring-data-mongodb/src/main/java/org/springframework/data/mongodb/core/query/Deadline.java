@@ -0,0 +1,122 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.query;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.util.Assert;
+
+/**
+ * The point in time a query has to be completed by. The deadline of the query currently being read is bound to the
+ * thread converting its results so that nested reads, e.g. the resolution of {@link com.mongodb.DBRef}s, can be
+ * limited to the remaining budget.
+ *
+ * @see Query#maxTime(long, TimeUnit)
+ */
+public class Deadline {
+
+	private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<Deadline>();
+
+	private final long deadlineNanos;
+
+	private Deadline(long deadlineNanos) {
+		this.deadlineNanos = deadlineNanos;
+	}
+
+	/**
+	 * Creates a {@link Deadline} the given time from now.
+	 *
+	 * @param time must be positive.
+	 * @param unit must not be {@literal null}.
+	 * @return
+	 */
+	public static Deadline in(long time, TimeUnit unit) {
+
+		Assert.isTrue(time > 0, "Time must be positive!");
+		Assert.notNull(unit, "TimeUnit must not be null!");
+
+		return new Deadline(System.nanoTime() + unit.toNanos(time));
+	}
+
+	/**
+	 * Returns the {@link Deadline} bound to the current thread.
+	 *
+	 * @return the {@link Deadline} or {@literal null} if none is bound.
+	 */
+	public static Deadline current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Binds the given {@link Deadline} to the current thread.
+	 *
+	 * @param deadline can be {@literal null} to unbind the current one.
+	 * @return the {@link Deadline} previously bound, to be restored once done.
+	 */
+	public static Deadline bind(Deadline deadline) {
+
+		Deadline previous = CURRENT.get();
+
+		if (deadline == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(deadline);
+		}
+
+		return previous;
+	}
+
+	/**
+	 * Returns the time left until the deadline passes.
+	 *
+	 * @param unit must not be {@literal null}.
+	 * @return the remaining time, {@literal 0} if the deadline has passed already.
+	 */
+	public long getRemaining(TimeUnit unit) {
+		return unit.convert(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns whether the deadline has passed.
+	 *
+	 * @return
+	 */
+	public boolean isExpired() {
+		return deadlineNanos - System.nanoTime() <= 0;
+	}
+
+	/**
+	 * Throws a {@link QueryTimeoutException} if the deadline has passed.
+	 *
+	 * @throws QueryTimeoutException
+	 */
+	public void check() {
+
+		if (isExpired()) {
+			throw new QueryTimeoutException("Query exceeded its deadline!");
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("Deadline: %sms remaining", getRemaining(TimeUnit.MILLISECONDS));
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.query;
+
+import org.springframework.util.Assert;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Position and size of a page to be read using keyset pagination. Instead of skipping the documents of all previous
+ * pages, the query for a subsequent page only selects documents sorting after the values of the sort keys (and the
+ * {@code _id}) of the last document of the previous page. Thus reading a page costs the same no matter how deep into
+ * the result it is. Use {@link #first(int)} to read the first page and {@link KeysetPage#nextKeyset()} for the
+ * following ones.
+ *
+ * @see org.springframework.data.mongodb.core.MongoOperations#findKeysetPage(Query, Keyset, Class)
+ */
+public class Keyset {
+
+	private final int size;
+	private final DBObject keys;
+
+	/**
+	 * Creates a new {@link Keyset}.
+	 *
+	 * @param size must be positive.
+	 * @param keys the sort key values of the last document read, {@literal null} to start with the first page.
+	 */
+	public Keyset(int size, DBObject keys) {
+
+		Assert.isTrue(size > 0, "Page size must be positive!");
+
+		this.size = size;
+		this.keys = keys == null ? null : new BasicDBObject(keys.toMap());
+	}
+
+	/**
+	 * Returns a {@link Keyset} to read the first page of the given size.
+	 *
+	 * @param size must be positive.
+	 * @return
+	 */
+	public static Keyset first(int size) {
+		return new Keyset(size, null);
+	}
+
+	/**
+	 * Returns the number of documents to read per page.
+	 *
+	 * @return
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns whether the {@link Keyset} points to the first page.
+	 *
+	 * @return
+	 */
+	public boolean isFirst() {
+		return keys == null;
+	}
+
+	/**
+	 * Returns the field names and values of the sort keys of the last document of the previous page.
+	 *
+	 * @return the keys or {@literal null} if the {@link Keyset} points to the first page.
+	 */
+	public DBObject getKeys() {
+		return keys == null ? null : new BasicDBObject(keys.toMap());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof Keyset)) {
+			return false;
+		}
+
+		Keyset that = (Keyset) obj;
+		return this.size == that.size && (this.keys == null ? that.keys == null : this.keys.equals(that.keys));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * size + (keys == null ? 0 : keys.hashCode());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("Keyset: size %s after %s", size, keys);
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.query;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * A page of results read using a {@link Keyset}. Does not know about the total number of elements as counting would
+ * defeat the purpose of keyset pagination.
+ */
+public class KeysetPage<T> implements Iterable<T> {
+
+	private final List<T> content;
+	private final Keyset keyset;
+	private final Keyset nextKeyset;
+
+	/**
+	 * Creates a new {@link KeysetPage}.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param keyset the {@link Keyset} the page was read with, must not be {@literal null}.
+	 * @param nextKeyset the {@link Keyset} to read the next page with, {@literal null} if this is the last page.
+	 */
+	public KeysetPage(List<T> content, Keyset keyset, Keyset nextKeyset) {
+
+		Assert.notNull(content, "Content must not be null!");
+		Assert.notNull(keyset, "Keyset must not be null!");
+
+		this.content = Collections.unmodifiableList(content);
+		this.keyset = keyset;
+		this.nextKeyset = nextKeyset;
+	}
+
+	/**
+	 * Returns the elements of the page.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<T> getContent() {
+		return content;
+	}
+
+	/**
+	 * Returns the {@link Keyset} the page was read with.
+	 *
+	 * @return
+	 */
+	public Keyset getKeyset() {
+		return keyset;
+	}
+
+	/**
+	 * Returns whether there is a page following this one.
+	 *
+	 * @return
+	 */
+	public boolean hasNext() {
+		return nextKeyset != null;
+	}
+
+	/**
+	 * Returns the {@link Keyset} to read the page following this one with.
+	 *
+	 * @return the {@link Keyset} or {@literal null} if this is the last page.
+	 */
+	public Keyset nextKeyset() {
+		return nextKeyset;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#iterator()
+	 */
+	public Iterator<T> iterator() {
+		return content.iterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("KeysetPage: %s elements, next: %s", content.size(), nextKeyset);
+	}
+}
@@ -19,14 +19,19 @@ import static org.springframework.data.mongodb.core.SerializationUtils.*;
 import static org.springframework.util.ObjectUtils.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.data.mongodb.InvalidMongoDbApiUsageException;
 import org.springframework.util.Assert;
 
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
+import com.mongodb.ReadPreference;
 
 public class Query {
 
@@ -36,6 +41,10 @@ public class Query {
 	private int skip;
 	private int limit;
 	private String hint;
+	private int batchSize;
+	private Set<CursorOption> cursorOptions = EnumSet.noneOf(CursorOption.class);
+	private ReadPreference readPreference;
+	private long maxTimeMsec;
 
 	/**
 	 * Static factory method to create a Query using the provided criteria
@@ -96,6 +105,93 @@ public class Query {
 		return this;
 	}
 
+	/**
+	 * Configures the number of documents to be returned per batch (i.e. per getMore round trip) by the cursor
+	 * executing the query. {@literal 0} will use the server's default.
+	 * 
+	 * @param batchSize
+	 * @return
+	 */
+	public Query batchSize(int batchSize) {
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Adds the given {@link CursorOption}s to the cursor executing the query.
+	 * 
+	 * @param options must not be {@literal null}.
+	 * @return
+	 */
+	public Query withCursorOptions(CursorOption... options) {
+
+		Assert.notNull(options, "Cursor options must not be null!");
+
+		for (CursorOption option : options) {
+			this.cursorOptions.add(option);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Configures the {@link ReadPreference} to execute the query with. Overrides the one configured for the entity
+	 * through {@link org.springframework.data.mongodb.core.mapping.Document#readPreference()} and the one configured on
+	 * the template.
+	 * 
+	 * @param readPreference can be {@literal null} to fall back to the defaults.
+	 * @return
+	 */
+	public Query readPreference(ReadPreference readPreference) {
+		this.readPreference = readPreference;
+		return this;
+	}
+
+	/**
+	 * Limits the time the query may take. The limit is sent to the server as {@code $maxTimeMS} (which servers not
+	 * supporting it ignore) and enforced by the template while reading the results as well, including the resolution of
+	 * {@link com.mongodb.DBRef}s. Exceeding it results in a {@link org.springframework.dao.QueryTimeoutException}.
+	 * 
+	 * @param maxTime the time budget, {@literal 0} for none.
+	 * @param unit must not be {@literal null}.
+	 * @return
+	 */
+	public Query maxTime(long maxTime, TimeUnit unit) {
+
+		Assert.isTrue(maxTime >= 0, "Max time must not be negative!");
+		Assert.notNull(unit, "TimeUnit must not be null!");
+
+		this.maxTimeMsec = unit.toMillis(maxTime);
+		return this;
+	}
+
+	/**
+	 * Prevents the cursor executing the query from timing out on the server.
+	 * 
+	 * @return
+	 */
+	public Query noCursorTimeout() {
+		return withCursorOptions(CursorOption.NO_TIMEOUT);
+	}
+
+	/**
+	 * Makes the server stream all results without waiting for getMore requests.
+	 * 
+	 * @return
+	 */
+	public Query exhaust() {
+		return withCursorOptions(CursorOption.EXHAUST);
+	}
+
+	/**
+	 * Allows partial results to be returned from a sharded cluster in case some shards are unavailable.
+	 * 
+	 * @return
+	 */
+	public Query partialResults() {
+		return withCursorOptions(CursorOption.PARTIAL);
+	}
+
 	public Sort sort() {
 		if (this.sort == null) {
 			this.sort = new Sort();
@@ -140,6 +236,37 @@ public class Query {
 		return hint;
 	}
 
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Returns the {@link CursorOption}s to be applied to the cursor executing the query.
+	 * 
+	 * @return will never be {@literal null}.
+	 */
+	public Set<CursorOption> getCursorOptions() {
+		return Collections.unmodifiableSet(cursorOptions);
+	}
+
+	/**
+	 * Returns the {@link ReadPreference} to execute the query with.
+	 * 
+	 * @return the {@link ReadPreference} or {@literal null} if the defaults shall be used.
+	 */
+	public ReadPreference getReadPreference() {
+		return readPreference;
+	}
+
+	/**
+	 * Returns the time budget of the query in milliseconds.
+	 * 
+	 * @return the budget or {@literal 0} if the query is not limited.
+	 */
+	public long getMaxTimeMsec() {
+		return maxTimeMsec;
+	}
+
 	protected List<Criteria> getCriteria() {
 		return new ArrayList<Criteria>(this.criteria.values());
 	}
@@ -177,8 +304,13 @@ public class Query {
 		boolean hintEqual = this.hint == null ? that.hint == null : this.hint.equals(that.hint);
 		boolean skipEqual = this.skip == that.skip;
 		boolean limitEqual = this.limit == that.limit;
+		boolean batchSizeEqual = this.batchSize == that.batchSize;
+		boolean cursorOptionsEqual = this.cursorOptions.equals(that.cursorOptions);
+		boolean readPreferenceEqual = nullSafeEquals(this.readPreference, that.readPreference);
+		boolean maxTimeEqual = this.maxTimeMsec == that.maxTimeMsec;
 
-		return criteriaEqual && fieldsEqual && sortEqual && hintEqual && skipEqual && limitEqual;
+		return criteriaEqual && fieldsEqual && sortEqual && hintEqual && skipEqual && limitEqual && batchSizeEqual
+				&& cursorOptionsEqual && readPreferenceEqual && maxTimeEqual;
 	}
 
 	/* 
@@ -196,6 +328,10 @@ public class Query {
 		result += 31 * nullSafeHashCode(hint);
 		result += 31 * skip;
 		result += 31 * limit;
+		result += 31 * batchSize;
+		result += 31 * cursorOptions.hashCode();
+		result += 31 * nullSafeHashCode(readPreference);
+		result += 31 * (int) (maxTimeMsec ^ (maxTimeMsec >>> 32));
 
 		return result;
 	}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.query;
+
+import com.mongodb.ReadPreference;
+
+/**
+ * The {@link ReadPreference}s that can be configured declaratively on entities and repository query methods.
+ *
+ * @see org.springframework.data.mongodb.core.mapping.Document#readPreference()
+ * @see org.springframework.data.mongodb.repository.Query#readPreference()
+ */
+public enum ReadPreferenceType {
+
+	/**
+	 * Does not configure a {@link ReadPreference} but falls back to the one configured on the next level, eventually the
+	 * one configured on the template or the driver.
+	 */
+	DEFAULT(null),
+
+	/**
+	 * Reads from the primary only. Use for reads that need to see the caller's own writes.
+	 */
+	PRIMARY(ReadPreference.PRIMARY),
+
+	/**
+	 * Reads from a secondary if available. Use for reads that can tolerate stale data.
+	 */
+	SECONDARY(ReadPreference.SECONDARY);
+
+	private final ReadPreference readPreference;
+
+	private ReadPreferenceType(ReadPreference readPreference) {
+		this.readPreference = readPreference;
+	}
+
+	/**
+	 * Returns the driver's {@link ReadPreference}.
+	 *
+	 * @return the {@link ReadPreference} or {@literal null} for {@link #DEFAULT}.
+	 */
+	public ReadPreference getReadPreference() {
+		return readPreference;
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.monitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.mongodb.core.MongoActionOperation;
+import org.springframework.data.mongodb.core.OperationMetrics;
+import org.springframework.data.mongodb.core.OperationStatistics;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedMetric;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedOperationParameter;
+import org.springframework.jmx.export.annotation.ManagedOperationParameters;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.jmx.support.MetricType;
+import org.springframework.util.Assert;
+
+/**
+ * JMX Metrics for the operations executed by a {@link org.springframework.data.mongodb.core.MongoTemplate} as seen by
+ * the client. Unlike the other monitors these are not read from the server status but from the
+ * {@link OperationMetrics} the template records into.
+ */
+@ManagedResource(description = "Client Operation Metrics")
+public class ClientOperationMetrics {
+
+	private final OperationMetrics metrics;
+
+	/**
+	 * Creates a new {@link ClientOperationMetrics} for the given {@link OperationMetrics}.
+	 *
+	 * @param metrics must not be {@literal null}.
+	 */
+	public ClientOperationMetrics(OperationMetrics metrics) {
+
+		Assert.notNull(metrics, "OperationMetrics must not be null!");
+		this.metrics = metrics;
+	}
+
+	@ManagedAttribute(description = "Operations recorded as collection:OPERATION")
+	public List<String> getOperations() {
+		return new ArrayList<String>(metrics.getStatistics().keySet());
+	}
+
+	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Operation count")
+	public long getExecutionCount() {
+
+		long result = 0;
+
+		for (OperationStatistics statistics : metrics.getStatistics().values()) {
+			result += statistics.getExecutionCount();
+		}
+
+		return result;
+	}
+
+	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Time spent in database", unit = "ms")
+	public long getExecutionTime() {
+
+		long result = 0;
+
+		for (OperationStatistics statistics : metrics.getStatistics().values()) {
+			result += statistics.getExecutionTime(TimeUnit.MILLISECONDS);
+		}
+
+		return result;
+	}
+
+	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Time spent converting documents", unit = "ms")
+	public long getConversionTime() {
+
+		long result = 0;
+
+		for (OperationStatistics statistics : metrics.getStatistics().values()) {
+			result += statistics.getConversionTime(TimeUnit.MILLISECONDS);
+		}
+
+		return result;
+	}
+
+	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Documents converted")
+	public long getDocumentCount() {
+
+		long result = 0;
+
+		for (OperationStatistics statistics : metrics.getStatistics().values()) {
+			result += statistics.getDocumentCount();
+		}
+
+		return result;
+	}
+
+	@ManagedMetric(metricType = MetricType.COUNTER, displayName = "Bytes converted", unit = "bytes")
+	public long getBytesConverted() {
+
+		long result = 0;
+
+		for (OperationStatistics statistics : metrics.getStatistics().values()) {
+			result += statistics.getBytesConverted();
+		}
+
+		return result;
+	}
+
+	@ManagedOperation(description = "Execution time percentile in microseconds")
+	@ManagedOperationParameters({ @ManagedOperationParameter(name = "collection", description = "Collection name"),
+			@ManagedOperationParameter(name = "operation", description = "Operation, e.g. FIND or INSERT"),
+			@ManagedOperationParameter(name = "percentile", description = "Percentile between 0 and 100") })
+	public long getExecutionTimePercentile(String collection, String operation, double percentile) {
+
+		OperationStatistics statistics = metrics.getStatistics(collection, MongoActionOperation.valueOf(operation));
+		return statistics == null ? 0 : statistics.getExecutionTimePercentile(percentile, TimeUnit.MICROSECONDS);
+	}
+
+	@ManagedOperation(description = "Summary of all operations recorded")
+	public List<String> getSummary() {
+
+		List<String> result = new ArrayList<String>();
+
+		for (Entry<String, OperationStatistics> entry : metrics.getStatistics().entrySet()) {
+			result.add(entry.getKey() + " - " + entry.getValue());
+		}
+
+		return result;
+	}
+
+	@ManagedOperation(description = "Reset all operation metrics")
+	public void reset() {
+		metrics.reset();
+	}
+}
@@ -17,6 +17,9 @@ package org.springframework.data.mongodb.repository;
 
 import java.lang.annotation.*;
 
+import org.springframework.data.mongodb.core.query.CursorOption;
+import org.springframework.data.mongodb.core.query.ReadPreferenceType;
+
 /**
  * Annotation to declare finder queries directly on repository methods. Both attributes allow using a placeholder
  * notation of {@code ?0}, {@code ?1} and so on.
@@ -43,4 +46,27 @@ public @interface Query {
 	 * @return
 	 */
 	String fields() default "";
+
+	/**
+	 * Defines the number of documents to be fetched per batch by the cursor executing the query. Defaults to
+	 * {@literal 0} which means the server's default batch size is used.
+	 * 
+	 * @return
+	 */
+	int batchSize() default 0;
+
+	/**
+	 * Defines the {@link CursorOption}s to be applied to the cursor executing the query.
+	 * 
+	 * @return
+	 */
+	CursorOption[] cursorOptions() default {};
+
+	/**
+	 * Defines the {@link com.mongodb.ReadPreference} to execute the query with. Defaults to the one configured for the
+	 * entity or the template.
+	 * 
+	 * @return
+	 */
+	ReadPreferenceType readPreference() default ReadPreferenceType.DEFAULT;
 }
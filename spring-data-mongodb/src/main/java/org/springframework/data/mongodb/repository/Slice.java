@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * {@link Page} that only knows whether there is a next page but not the total number of elements. Query methods
+ * returning a {@link Slice} read one element more than requested instead of issuing a count query.
+ * {@link #getTotalElements()} and {@link #getTotalPages()} thus only reflect the elements seen so far, plus one if
+ * there is a next page, while {@link #hasNextPage()} and {@link #isLastPage()} are accurate.
+ */
+public class Slice<T> extends PageImpl<T> {
+
+	private static final long serialVersionUID = -3262934233282497451L;
+
+	private final boolean hasNext;
+
+	/**
+	 * Creates a new {@link Slice}.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @param hasNext whether there is a page following this one.
+	 */
+	public Slice(List<T> content, Pageable pageable, boolean hasNext) {
+
+		super(content, pageable, pageable.getOffset() + content.size() + (hasNext ? 1 : 0));
+		this.hasNext = hasNext;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageImpl#hasNextPage()
+	 */
+	@Override
+	public boolean hasNextPage() {
+		return hasNext;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageImpl#isLastPage()
+	 */
+	@Override
+	public boolean isLastPage() {
+		return !hasNext;
+	}
+}
@@ -18,8 +18,9 @@ package org.springframework.data.mongodb.repository.query;
 import static org.springframework.data.mongodb.repository.query.QueryUtils.*;
 
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.geo.Distance;
@@ -27,8 +28,10 @@ import org.springframework.data.mongodb.core.geo.GeoPage;
 import org.springframework.data.mongodb.core.geo.GeoResult;
 import org.springframework.data.mongodb.core.geo.GeoResults;
 import org.springframework.data.mongodb.core.geo.Point;
+import org.springframework.data.mongodb.core.query.Keyset;
 import org.springframework.data.mongodb.core.query.NearQuery;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.Slice;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.util.TypeInformation;
@@ -43,6 +46,7 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 
 	private final MongoQueryMethod method;
 	private final MongoOperations operations;
+	private Executor countExecutor;
 
 	/**
 	 * Creates a new {@link AbstractMongoQuery} from the given {@link MongoQueryMethod} and {@link MongoOperations}.
@@ -59,6 +63,17 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		this.operations = operations;
 	}
 
+	/**
+	 * Configures the {@link Executor} to run the count query of paged query methods on concurrently to reading the
+	 * page. If none is configured, the count query is executed after reading the page if the total cannot be inferred
+	 * from the page's content.
+	 * 
+	 * @param countExecutor can be {@literal null}.
+	 */
+	public void setCountExecutor(Executor countExecutor) {
+		this.countExecutor = countExecutor;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.query.RepositoryQuery#getQueryMethod()
@@ -75,6 +90,7 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 
 		MongoParameterAccessor accessor = new MongoParametersParameterAccessor(method, parameters);
 		Query query = createQuery(new ConvertingParameterAccessor(operations.getConverter(), accessor));
+		applyCursorSettings(query);
 
 		if (method.isGeoNearQuery() && method.isPageQuery()) {
 
@@ -84,8 +100,12 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 			return new GeoNearExecution(accessor).execute(query, countQuery);
 		} else if (method.isGeoNearQuery()) {
 			return new GeoNearExecution(accessor).execute(query);
+		} else if (method.isKeysetQuery()) {
+			return new KeysetExecution(accessor.getKeyset()).execute(query);
 		} else if (method.isCollectionQuery()) {
 			return new CollectionExecution(accessor.getPageable()).execute(query);
+		} else if (method.isSliceQuery()) {
+			return new SliceExecution(accessor.getPageable()).execute(query);
 		} else if (method.isPageQuery()) {
 			return new PagedExecution(accessor.getPageable()).execute(query);
 		} else {
@@ -93,6 +113,29 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		}
 	}
 
+	/**
+	 * Applies the batch size, cursor options and read preference configured on the {@link MongoQueryMethod} to the given
+	 * {@link Query}.
+	 * 
+	 * @param query can be {@literal null}.
+	 */
+	private void applyCursorSettings(Query query) {
+
+		if (query == null) {
+			return;
+		}
+
+		if (method.getBatchSize() != 0) {
+			query.batchSize(method.getBatchSize());
+		}
+
+		query.withCursorOptions(method.getCursorOptions());
+
+		if (method.getReadPreference() != null) {
+			query.readPreference(method.getReadPreference());
+		}
+	}
+
 	/**
 	 * Creates a {@link Query} instance using the given {@link ParameterAccessor}
 	 * 
@@ -179,16 +222,85 @@ public abstract class AbstractMongoQuery implements RepositoryQuery {
 		 * @see org.springframework.data.mongodb.repository.AbstractMongoQuery.Execution#execute(org.springframework.data.mongodb.core.query.Query)
 		 */
 		@Override
+		Object execute(final Query query) {
+
+			final MongoEntityInformation<?, ?> metadata = method.getEntityInformation();
+			final Query pagedQuery = applyPagination(query, pageable);
+
+			return getPage(pageable, new Callable<List<Object>>() {
+				@SuppressWarnings("unchecked")
+				public List<Object> call() {
+					return (List<Object>) operations.find(pagedQuery, metadata.getJavaType(), metadata.getCollectionName());
+				}
+			}, new Callable<Long>() {
+				public Long call() {
+					return operations.count(query, metadata.getCollectionName());
+				}
+			}, countExecutor);
+		}
+	}
+
+	/**
+	 * {@link Execution} for queries returning a {@link Slice}. Reads one element more than requested to find out
+	 * whether there's a next page instead of counting.
+	 */
+	class SliceExecution extends Execution {
+
+		private final Pageable pageable;
+
+		/**
+		 * Creates a new {@link SliceExecution}.
+		 * 
+		 * @param pageable must not be {@literal null}.
+		 */
+		public SliceExecution(Pageable pageable) {
+
+			Assert.notNull(pageable);
+			this.pageable = pageable;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery.Execution#execute(org.springframework.data.mongodb.core.query.Query)
+		 */
+		@Override
 		@SuppressWarnings({ "rawtypes", "unchecked" })
 		Object execute(Query query) {
 
-			MongoEntityInformation<?, ?> metadata = method.getEntityInformation();
-			long count = operations.count(query, metadata.getCollectionName());
+			List<?> result = readCollection(applyPagination(query, pageable).limit(pageable.getPageSize() + 1));
+			boolean hasNext = result.size() > pageable.getPageSize();
+
+			return new Slice(hasNext ? result.subList(0, pageable.getPageSize()) : result, pageable, hasNext);
+		}
+	}
+
+	/**
+	 * {@link Execution} for keyset pagination queries.
+	 */
+	class KeysetExecution extends Execution {
 
-			List<?> result = operations.find(applyPagination(query, pageable), metadata.getJavaType(),
-					metadata.getCollectionName());
+		private final Keyset keyset;
 
-			return new PageImpl(result, pageable, count);
+		/**
+		 * Creates a new {@link KeysetExecution}.
+		 * 
+		 * @param keyset must not be {@literal null}.
+		 */
+		public KeysetExecution(Keyset keyset) {
+
+			Assert.notNull(keyset, "Keyset must not be null for query methods returning a KeysetPage!");
+			this.keyset = keyset;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.mongodb.repository.query.AbstractMongoQuery.Execution#execute(org.springframework.data.mongodb.core.query.Query)
+		 */
+		@Override
+		Object execute(Query query) {
+
+			MongoEntityInformation<?, ?> metadata = method.getEntityInformation();
+			return operations.findKeysetPage(query, keyset, metadata.getJavaType(), metadata.getCollectionName());
 		}
 	}
 
@@ -23,6 +23,7 @@ import org.springframework.data.mongodb.core.convert.MongoWriter;
 import org.springframework.data.mongodb.core.geo.Distance;
 import org.springframework.data.mongodb.core.geo.Point;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Keyset;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.util.Assert;
 
@@ -101,6 +102,14 @@ public class ConvertingParameterAccessor implements MongoParameterAccessor {
 		return delegate.getGeoNearLocation();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.MongoParameterAccessor#getKeyset()
+	 */
+	public Keyset getKeyset() {
+		return delegate.getKeyset();
+	}
+
 	/**
 	 * Converts the given value with the underlying {@link MongoWriter}.
 	 * 
@@ -22,6 +22,7 @@ import java.util.List;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.mongodb.core.geo.Distance;
 import org.springframework.data.mongodb.core.geo.Point;
+import org.springframework.data.mongodb.core.query.Keyset;
 import org.springframework.data.mongodb.repository.Near;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
@@ -34,6 +35,7 @@ import org.springframework.data.repository.query.Parameters;
 public class MongoParameters extends Parameters {
 
 	private final Integer distanceIndex;
+	private final Integer keysetIndex;
 	private Integer nearIndex;
 
 	/**
@@ -47,6 +49,7 @@ public class MongoParameters extends Parameters {
 		super(method);
 		List<Class<?>> parameterTypes = Arrays.asList(method.getParameterTypes());
 		this.distanceIndex = parameterTypes.indexOf(Distance.class);
+		this.keysetIndex = parameterTypes.indexOf(Keyset.class);
 
 		if (this.nearIndex == null && isGeoNearMethod) {
 			this.nearIndex = getNearIndex(parameterTypes);
@@ -105,6 +108,15 @@ public class MongoParameters extends Parameters {
 		return distanceIndex;
 	}
 
+	/**
+	 * Returns the index of a {@link Keyset} parameter to be used for keyset pagination.
+	 * 
+	 * @return the index or {@literal -1} if there's no {@link Keyset} parameter.
+	 */
+	public int getKeysetIndex() {
+		return keysetIndex;
+	}
+
 	/**
 	 * Returns the index of the parameter to be used to start a geo-near query from.
 	 * 
@@ -143,7 +155,8 @@ public class MongoParameters extends Parameters {
 		 */
 		@Override
 		public boolean isSpecialParameter() {
-			return super.isSpecialParameter() || getType().equals(Distance.class) || isNearParameter();
+			return super.isSpecialParameter() || getType().equals(Distance.class) || getType().equals(Keyset.class)
+					|| isNearParameter();
 		}
 
 		private boolean isNearParameter() {
@@ -17,6 +17,7 @@ package org.springframework.data.mongodb.repository.query;
 
 import org.springframework.data.mongodb.core.geo.Distance;
 import org.springframework.data.mongodb.core.geo.Point;
+import org.springframework.data.mongodb.core.query.Keyset;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 
 /**
@@ -77,4 +78,13 @@ public class MongoParametersParameterAccessor extends ParametersParameterAccesso
 
 		return (Point) value;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mongodb.repository.query.MongoParameterAccessor#getKeyset()
+	 */
+	public Keyset getKeyset() {
+		int index = method.getParameters().getKeysetIndex();
+		return index == -1 ? null : (Keyset) getValue(index);
+	}
 }
@@ -23,7 +23,10 @@ import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.mongodb.core.geo.GeoPage;
 import org.springframework.data.mongodb.core.geo.GeoResult;
 import org.springframework.data.mongodb.core.geo.GeoResults;
+import org.springframework.data.mongodb.core.query.CursorOption;
+import org.springframework.data.mongodb.core.query.KeysetPage;
 import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Slice;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.QueryMethod;
@@ -32,6 +35,8 @@ import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import com.mongodb.ReadPreference;
+
 /**
  * TODO - Extract methods for {@link #getAnnotatedQuery()} into superclass as it is currently copied from Spring Data
  * JPA
@@ -101,6 +106,39 @@ public class MongoQueryMethod extends QueryMethod {
 		return StringUtils.hasText(value) ? value : null;
 	}
 
+	/**
+	 * Returns the batch size to be used for the cursor executing the query or {@literal 0} if none configured.
+	 * 
+	 * @return
+	 */
+	int getBatchSize() {
+
+		Query annotation = getQueryAnnotation();
+		return annotation == null ? 0 : annotation.batchSize();
+	}
+
+	/**
+	 * Returns the {@link CursorOption}s to be applied to the cursor executing the query.
+	 * 
+	 * @return will never be {@literal null}.
+	 */
+	CursorOption[] getCursorOptions() {
+
+		Query annotation = getQueryAnnotation();
+		return annotation == null ? new CursorOption[0] : annotation.cursorOptions();
+	}
+
+	/**
+	 * Returns the {@link ReadPreference} to execute the query with.
+	 * 
+	 * @return the {@link ReadPreference} or {@literal null} if none configured.
+	 */
+	ReadPreference getReadPreference() {
+
+		Query annotation = getQueryAnnotation();
+		return annotation == null ? null : annotation.readPreference().getReadPreference();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.query.QueryMethod#getEntityInformation()
@@ -144,6 +182,24 @@ public class MongoQueryMethod extends QueryMethod {
 		return false;
 	}
 
+	/**
+	 * Returns whether the query reads a {@link Slice}, i.e. a page without a total.
+	 * 
+	 * @return
+	 */
+	public boolean isSliceQuery() {
+		return Slice.class.equals(method.getReturnType());
+	}
+
+	/**
+	 * Returns whether the query reads a {@link KeysetPage}.
+	 * 
+	 * @return
+	 */
+	public boolean isKeysetQuery() {
+		return KeysetPage.class.equals(method.getReturnType());
+	}
+
 	/**
 	 * Returns the {@link Query} annotation that is applied to the method or {@code null} if none available.
 	 * 
@@ -15,7 +15,16 @@
  */
 package org.springframework.data.mongodb.repository.query;
 
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
 import com.mongodb.DBCursor;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
@@ -74,6 +83,90 @@ public abstract class QueryUtils {
 		return query;
 	}
 
+	/**
+	 * Returns the total number of elements if it can be inferred from the content of the page requested with the given
+	 * {@link Pageable}, i.e. if the page is not full and thus the last one.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @return the total or {@literal -1} if it cannot be inferred.
+	 */
+	public static long getInferredTotal(List<?> content, Pageable pageable) {
+
+		if (pageable == null) {
+			return content.size();
+		}
+
+		// an empty page beyond the first one might as well be beyond the last one
+		if (content.size() < pageable.getPageSize() && (pageable.getOffset() == 0 || !content.isEmpty())) {
+			return pageable.getOffset() + content.size();
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Creates a {@link Page} from the results of the given find and count calls. The find call is executed on the
+	 * calling thread. The count call is only executed if the total cannot be inferred from the content (see
+	 * {@link #getInferredTotal(List, Pageable)}). If an {@link Executor} is given, the count is started on it right
+	 * away, so that both run concurrently, and abandoned if its result turns out not to be needed.
+	 * 
+	 * @param pageable can be {@literal null}.
+	 * @param find must not be {@literal null}.
+	 * @param count must not be {@literal null}.
+	 * @param executor can be {@literal null} to execute the count after the find on the calling thread.
+	 * @return
+	 */
+	public static <T> Page<T> getPage(Pageable pageable, Callable<List<T>> find, Callable<Long> count,
+			Executor executor) {
+
+		FutureTask<Long> countTask = new FutureTask<Long>(count);
+
+		if (executor != null) {
+			executor.execute(countTask);
+		}
+
+		List<T> content;
+
+		try {
+			content = find.call();
+		} catch (Exception e) {
+			countTask.cancel(false);
+			throw rethrow(e);
+		}
+
+		long total = getInferredTotal(content, pageable);
+
+		if (total != -1) {
+			countTask.cancel(false);
+			return new PageImpl<T>(content, pageable, total);
+		}
+
+		if (executor == null) {
+			countTask.run();
+		}
+
+		try {
+			return new PageImpl<T>(content, pageable, countTask.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DataRetrievalFailureException("Interrupted while waiting for count to complete!", e);
+		} catch (ExecutionException e) {
+			throw rethrow(e.getCause());
+		}
+	}
+
+	private static RuntimeException rethrow(Throwable throwable) {
+
+		if (throwable instanceof RuntimeException) {
+			return (RuntimeException) throwable;
+		} else if (throwable instanceof Error) {
+			throw (Error) throwable;
+		}
+
+		return new DataRetrievalFailureException(throwable.getMessage(), throwable);
+	}
+
 	public static org.springframework.data.mongodb.core.query.Order toOrder(Order order) {
 		return order.isAscending() ? org.springframework.data.mongodb.core.query.Order.ASCENDING
 				: org.springframework.data.mongodb.core.query.Order.DESCENDING;
@@ -19,11 +19,13 @@ import static org.springframework.data.querydsl.QueryDslUtils.*;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
 
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.query.AbstractMongoQuery;
 import org.springframework.data.mongodb.repository.query.EntityInformationCreator;
 import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
 import org.springframework.data.mongodb.repository.query.MongoQueryMethod;
@@ -47,6 +49,7 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 
 	private final MongoOperations mongoOperations;
 	private final EntityInformationCreator entityInformationCreator;
+	private Executor countExecutor;
 
 	/**
 	 * Creates a new {@link MongoRepositoryFactory} with the given {@link MongoTemplate} and {@link MappingContext}.
@@ -62,6 +65,17 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 				.getMappingContext());
 	}
 
+	/**
+	 * Configures the {@link Executor} to run count queries of paged query methods and
+	 * {@link SimpleMongoRepository#findAll(org.springframework.data.domain.Pageable)} on concurrently to reading the
+	 * page.
+	 * 
+	 * @param countExecutor can be {@literal null}.
+	 */
+	public void setCountExecutor(Executor countExecutor) {
+		this.countExecutor = countExecutor;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
@@ -83,11 +97,17 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 		Class<?> repositoryInterface = metadata.getRepositoryInterface();
 		MongoEntityInformation<?, Serializable> entityInformation = getEntityInformation(metadata.getDomainType());
 
+		SimpleMongoRepository<?, ?> repository;
+
 		if (isQueryDslRepository(repositoryInterface)) {
-			return new QueryDslMongoRepository(entityInformation, mongoOperations);
+			repository = new QueryDslMongoRepository(entityInformation, mongoOperations);
 		} else {
-			return new SimpleMongoRepository(entityInformation, mongoOperations);
+			repository = new SimpleMongoRepository(entityInformation, mongoOperations);
 		}
+
+		repository.setCountExecutor(countExecutor);
+
+		return repository;
 	}
 
 	private static boolean isQueryDslRepository(Class<?> repositoryInterface) {
@@ -119,15 +139,19 @@ public class MongoRepositoryFactory extends RepositoryFactorySupport {
 
 			MongoQueryMethod queryMethod = new MongoQueryMethod(method, metadata, entityInformationCreator);
 			String namedQueryName = queryMethod.getNamedQueryName();
+			AbstractMongoQuery query;
 
 			if (namedQueries.hasQuery(namedQueryName)) {
 				String namedQuery = namedQueries.getQuery(namedQueryName);
-				return new StringBasedMongoQuery(namedQuery, queryMethod, mongoOperations);
+				query = new StringBasedMongoQuery(namedQuery, queryMethod, mongoOperations);
 			} else if (queryMethod.hasAnnotatedQuery()) {
-				return new StringBasedMongoQuery(queryMethod, mongoOperations);
+				query = new StringBasedMongoQuery(queryMethod, mongoOperations);
 			} else {
-				return new PartTreeMongoQuery(queryMethod, mongoOperations);
+				query = new PartTreeMongoQuery(queryMethod, mongoOperations);
 			}
+
+			query.setCountExecutor(countExecutor);
+			return query;
 		}
 	}
 
@@ -16,6 +16,7 @@
 package org.springframework.data.mongodb.repository.support;
 
 import java.io.Serializable;
+import java.util.concurrent.Executor;
 
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -34,6 +35,7 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 
 	private MongoOperations operations;
 	private boolean createIndexesForQueryMethods = false;
+	private Executor countExecutor;
 
 	/**
 	 * Configures the {@link MongoOperations} to be used.
@@ -54,6 +56,15 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		this.createIndexesForQueryMethods = createIndexesForQueryMethods;
 	}
 
+	/**
+	 * Configures the {@link Executor} to run count queries for paged results on concurrently to reading the page.
+	 * 
+	 * @param countExecutor the countExecutor to set
+	 */
+	public void setCountExecutor(Executor countExecutor) {
+		this.countExecutor = countExecutor;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -66,6 +77,10 @@ public class MongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 
 		RepositoryFactorySupport factory = getFactoryInstance(operations);
 
+		if (factory instanceof MongoRepositoryFactory) {
+			((MongoRepositoryFactory) factory).setCountExecutor(countExecutor);
+		}
+
 		if (createIndexesForQueryMethods) {
 			factory.addQueryCreationListener(new IndexEnsuringQueryCreationListener(operations));
 		}
@@ -17,15 +17,16 @@ package org.springframework.data.mongodb.repository.support;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
+import org.springframework.data.mongodb.repository.query.QueryUtils;
 import org.springframework.data.querydsl.EntityPathResolver;
 import org.springframework.data.querydsl.QueryDslPredicateExecutor;
 import org.springframework.data.querydsl.SimpleEntityPathResolver;
@@ -106,12 +107,20 @@ public class QueryDslMongoRepository<T, ID extends Serializable> extends SimpleM
 	 * (non-Javadoc)
 	 * @see org.springframework.data.querydsl.QueryDslPredicateExecutor#findAll(com.mysema.query.types.Predicate, org.springframework.data.domain.Pageable)
 	 */
-	public Page<T> findAll(Predicate predicate, Pageable pageable) {
-
-		MongodbQuery<T> countQuery = createQueryFor(predicate);
-		MongodbQuery<T> query = createQueryFor(predicate);
-
-		return new PageImpl<T>(applyPagination(query, pageable).list(), pageable, countQuery.count());
+	public Page<T> findAll(Predicate predicate, final Pageable pageable) {
+
+		final MongodbQuery<T> countQuery = createQueryFor(predicate);
+		final MongodbQuery<T> query = createQueryFor(predicate);
+
+		return QueryUtils.getPage(pageable, new Callable<List<T>>() {
+			public List<T> call() {
+				return applyPagination(query, pageable).list();
+			}
+		}, new Callable<Long>() {
+			public Long call() {
+				return countQuery.count();
+			}
+		}, getCountExecutor());
 	}
 
 	/*
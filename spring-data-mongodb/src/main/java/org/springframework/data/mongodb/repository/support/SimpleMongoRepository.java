@@ -23,9 +23,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
@@ -46,6 +47,7 @@ public class SimpleMongoRepository<T, ID extends Serializable> implements MongoR
 
 	private final MongoOperations mongoOperations;
 	private final MongoEntityInformation<T, ID> entityInformation;
+	private Executor countExecutor;
 
 	/**
 	 * Creates a ew {@link SimpleMongoRepository} for the given {@link MongoEntityInformation} and {@link MongoTemplate}.
@@ -61,6 +63,26 @@ public class SimpleMongoRepository<T, ID extends Serializable> implements MongoR
 		this.mongoOperations = mongoOperations;
 	}
 
+	/**
+	 * Configures the {@link Executor} to run the count query of {@link #findAll(Pageable)} on concurrently to reading
+	 * the page. If none is configured, the count query is executed after reading the page if the total cannot be
+	 * inferred from the page's content.
+	 * 
+	 * @param countExecutor can be {@literal null}.
+	 */
+	public void setCountExecutor(Executor countExecutor) {
+		this.countExecutor = countExecutor;
+	}
+
+	/**
+	 * Returns the {@link Executor} to run count queries on.
+	 * 
+	 * @return the {@link Executor} or {@literal null} if count queries are run on the calling thread.
+	 */
+	protected Executor getCountExecutor() {
+		return countExecutor;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.CrudRepository#save(java.lang.Object)
@@ -196,10 +218,15 @@ public class SimpleMongoRepository<T, ID extends Serializable> implements MongoR
 	 */
 	public Page<T> findAll(final Pageable pageable) {
 
-		Long count = count();
-		List<T> list = findAll(QueryUtils.applyPagination(new Query(), pageable));
-
-		return new PageImpl<T>(list, pageable, count);
+		return QueryUtils.getPage(pageable, new Callable<List<T>>() {
+			public List<T> call() {
+				return findAll(QueryUtils.applyPagination(new Query(), pageable));
+			}
+		}, new Callable<Long>() {
+			public Long call() {
+				return count();
+			}
+		}, countExecutor);
 	}
 
 	/*
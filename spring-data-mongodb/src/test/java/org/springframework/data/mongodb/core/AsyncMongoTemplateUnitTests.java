@@ -0,0 +1,113 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Unit tests for {@link AsyncMongoTemplate}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncMongoTemplateUnitTests {
+
+	@Mock
+	MongoOperations operations;
+	@Mock
+	Executor executor;
+
+	AsyncMongoTemplate template;
+
+	@Before
+	public void setUp() {
+		this.template = new AsyncMongoTemplate(operations, SynchronousExecutor.INSTANCE);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullOperations() {
+		new AsyncMongoTemplate(null, executor);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullExecutor() {
+		new AsyncMongoTemplate(operations, null);
+	}
+
+	@Test
+	public void submitsOperationsToExecutor() {
+
+		AsyncMongoTemplate template = new AsyncMongoTemplate(operations, executor);
+		Future<List<Person>> future = template.find(new Query(), Person.class);
+
+		assertThat(future.isDone(), is(false));
+		verify(executor, times(1)).execute(any(Runnable.class));
+		verifyZeroInteractions(operations);
+	}
+
+	@Test
+	public void delegatesToOperations() throws Exception {
+
+		Query query = new Query();
+		List<Person> people = Arrays.asList(new Person("Dave"));
+		when(operations.find(query, Person.class)).thenReturn(people);
+		when(operations.count(query, Person.class)).thenReturn(1L);
+
+		assertThat(template.find(query, Person.class).get(), is(people));
+		assertThat(template.count(query, Person.class).get(), is(1L));
+
+		Person person = new Person("Carter");
+		template.save(person).get();
+		verify(operations, times(1)).save(person);
+	}
+
+	@Test
+	public void exposesExceptionThroughFuture() throws Exception {
+
+		DataAccessResourceFailureException exception = new DataAccessResourceFailureException("Error!");
+		when(operations.findById(1L, Person.class)).thenThrow(exception);
+
+		try {
+			template.findById(1L, Person.class).get();
+			fail("Expected ExecutionException!");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause(), is((Throwable) exception));
+		}
+	}
+
+	enum SynchronousExecutor implements Executor {
+
+		INSTANCE;
+
+		public void execute(Runnable command) {
+			command.run();
+		}
+	}
+}
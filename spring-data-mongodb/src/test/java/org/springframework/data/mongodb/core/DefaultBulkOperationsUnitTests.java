@@ -0,0 +1,211 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.CommandResult;
+import com.mongodb.DB;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.MongoException;
+import com.mongodb.WriteConcern;
+import com.mongodb.WriteResult;
+
+/**
+ * Unit tests for {@link DefaultBulkOperations}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultBulkOperationsUnitTests {
+
+	@Mock
+	MongoDbFactory factory;
+	@Mock
+	DB db;
+	@Mock
+	DBCollection collection;
+	@Mock
+	WriteResult writeResult;
+	@Mock
+	CommandResult commandResult;
+
+	MongoTemplate template;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+
+		MappingMongoConverter converter = new MappingMongoConverter(factory, new MongoMappingContext());
+		this.template = new MongoTemplate(factory, converter);
+
+		when(factory.getDb()).thenReturn(db);
+		when(db.getCollection(anyString())).thenReturn(collection);
+		when(db.getLastError(any(WriteConcern.class))).thenReturn(commandResult);
+		when(collection.getDB()).thenReturn(db);
+		when(collection.insert(anyList(), any(WriteConcern.class))).thenReturn(writeResult);
+		when(collection.update(any(DBObject.class), any(DBObject.class), anyBoolean(), anyBoolean(),
+				any(WriteConcern.class))).thenReturn(writeResult);
+		when(collection.remove(any(DBObject.class), any(WriteConcern.class))).thenReturn(writeResult);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullBulkMode() {
+		new DefaultBulkOperations(template, null, "collection", null);
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void mergesConsecutiveInsertsIntoSingleBatch() {
+
+		BulkOperations operations = template.bulkOps(BulkMode.ORDERED, Person.class);
+		operations.insert(Arrays.asList(new Person("Dave"), new Person("Carter")));
+		operations.remove(new Query(Criteria.where("firstname").is("Dave")));
+		operations.insert(new Person("Oliver"));
+
+		BulkWriteResult result = operations.execute();
+
+		ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(2)).insert(captor.capture(), eq(WriteConcern.NONE));
+		verify(collection, times(1)).remove(any(DBObject.class), eq(WriteConcern.NONE));
+		verify(db, times(1)).requestStart();
+		verify(db, times(1)).requestDone();
+
+		assertThat(captor.getAllValues().get(0).size(), is(2));
+		assertThat(captor.getAllValues().get(1).size(), is(1));
+		assertThat(result.getInsertedCount(), is(3));
+		assertThat(result.getRemovedCount(), is(-1));
+		assertThat(result.getWriteResults().size(), is(3));
+	}
+
+	@Test
+	public void orderedModeChecksErrorsOncePerRun() {
+
+		BulkOperations operations = template.bulkOps(BulkMode.ORDERED, Person.class);
+		operations.updateFirst(new Query(Criteria.where("firstname").is("Dave")), new Update().set("age", 42));
+		operations.updateMulti(new Query(), new Update().set("age", 0));
+		operations.remove(new Query());
+		operations.remove(new Query());
+		operations.insert(new Person("Dave"));
+
+		operations.execute();
+
+		verify(collection, times(2)).update(any(DBObject.class), any(DBObject.class), eq(false), anyBoolean(),
+				eq(WriteConcern.NONE));
+		verify(db, times(3)).getLastError(WriteConcern.SAFE);
+	}
+
+	@Test
+	public void unorderedModeExecutesAllOperationsAndCollectsErrorsPerBatch() {
+
+		MongoException first = new MongoException("first");
+		MongoException second = new MongoException("second");
+		doThrow(first).doNothing().doThrow(second).when(commandResult).throwOnError();
+
+		DefaultBulkOperations operations = (DefaultBulkOperations) template.bulkOps(BulkMode.UNORDERED, Person.class);
+		operations.setBatchSize(2);
+		operations.insert(new Person("Dave"));
+		operations.updateMulti(new Query(), new Update().set("age", 0));
+		operations.insert(new Person("Carter"));
+		operations.remove(new Query());
+		operations.remove(new Query());
+
+		try {
+			operations.execute();
+			fail("Expected BulkOperationException!");
+		} catch (BulkOperationException e) {
+
+			assertThat(e.getErrors().size(), is(2));
+			assertThat(e.getErrors().get(0), is(first));
+			assertThat(e.getErrors().get(1), is(second));
+			assertThat(e.getResult().getInsertedCount(), is(1));
+		}
+
+		verify(collection, times(2)).remove(any(DBObject.class), eq(WriteConcern.NONE));
+		verify(db, times(3)).getLastError(WriteConcern.SAFE);
+	}
+
+	@Test
+	public void orderedModeExposesCountsOfRunsExecutedBeforeFailure() {
+
+		MongoException error = new MongoException("error");
+		doNothing().doThrow(error).when(commandResult).throwOnError();
+
+		BulkOperations operations = template.bulkOps(BulkMode.ORDERED, Person.class);
+		operations.insert(new Person("Dave"));
+		operations.remove(new Query());
+		operations.insert(new Person("Carter"));
+
+		try {
+			operations.execute();
+			fail("Expected BulkOperationException!");
+		} catch (BulkOperationException e) {
+
+			assertThat(e.getErrors().size(), is(1));
+			assertThat(e.getErrors().get(0), is(error));
+			assertThat(e.getResult().getInsertedCount(), is(1));
+		}
+
+		verify(collection, times(1)).insert(anyList(), eq(WriteConcern.NONE));
+		verify(collection, times(1)).remove(any(DBObject.class), eq(WriteConcern.NONE));
+	}
+
+	@Test
+	public void checksErrorsWithConfiguredWriteConcern() {
+
+		DefaultBulkOperations operations = (DefaultBulkOperations) template.bulkOps(BulkMode.ORDERED, Person.class);
+		operations.setWriteConcern(WriteConcern.FSYNC_SAFE);
+		operations.remove(new Query());
+		operations.execute();
+
+		verify(collection, times(1)).remove(any(DBObject.class), eq(WriteConcern.NONE));
+		verify(db, times(1)).getLastError(WriteConcern.FSYNC_SAFE);
+	}
+
+	@Test
+	public void executeResetsOperations() {
+
+		BulkOperations operations = template.bulkOps(BulkMode.ORDERED, "collection");
+		operations.upsert(new Query(), new Update().set("foo", "bar"));
+		operations.execute();
+
+		BulkWriteResult result = operations.execute();
+
+		verify(collection, times(1)).update(any(DBObject.class), any(DBObject.class), eq(true), eq(false),
+				eq(WriteConcern.NONE));
+		verify(db, times(1)).getLastError(WriteConcern.SAFE);
+		assertThat(result.getWriteResults().isEmpty(), is(true));
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Unit tests for {@link EntitySnapshots}.
+ */
+public class EntitySnapshotsUnitTests {
+
+	@Test
+	public void createsEmptyUpdateForEqualDocuments() {
+
+		DBObject snapshot = new BasicDBObject("_id", 1).append("name", "Dave");
+		DBObject update = EntitySnapshots.diff(snapshot, new BasicDBObject("_id", 1).append("name", "Dave"));
+
+		assertThat(update.keySet().isEmpty(), is(true));
+	}
+
+	@Test
+	public void setsChangedAndAddedFieldsAndUnsetsRemovedOnes() {
+
+		DBObject snapshot = new BasicDBObject("_id", 1).append("name", "Dave").append("age", 42);
+		DBObject document = new BasicDBObject("_id", 1).append("name", "Carter").append("nick", "C");
+
+		DBObject update = EntitySnapshots.diff(snapshot, document);
+
+		assertThat(update.get("$set"), is((Object) new BasicDBObject("name", "Carter").append("nick", "C")));
+		assertThat(update.get("$unset"), is((Object) new BasicDBObject("age", 1)));
+	}
+
+	@Test
+	public void comparesNestedDocumentsFieldByField() {
+
+		DBObject snapshot = new BasicDBObject("address", new BasicDBObject("street", "Foo").append("city", "Dresden"));
+		DBObject document = new BasicDBObject("address", new BasicDBObject("street", "Bar").append("city", "Dresden"));
+
+		DBObject update = EntitySnapshots.diff(snapshot, document);
+
+		assertThat(update.get("$set"), is((Object) new BasicDBObject("address.street", "Bar")));
+		assertThat(update.get("$unset"), is(nullValue()));
+	}
+
+	@Test
+	public void replacesChangedArraysAsAWhole() {
+
+		BasicDBList original = new BasicDBList();
+		original.add("Foo");
+		BasicDBList changed = new BasicDBList();
+		changed.add("Foo");
+		changed.add("Bar");
+
+		DBObject update = EntitySnapshots.diff(new BasicDBObject("tags", original), new BasicDBObject("tags", changed));
+
+		assertThat(update.get("$set"), is((Object) new BasicDBObject("tags", changed)));
+	}
+
+	@Test
+	public void tracksEntitiesByIdentityAndCollection() {
+
+		EntitySnapshots snapshots = new EntitySnapshots();
+		Person dave = new Person("Dave");
+		DBObject document = new BasicDBObject("firstName", "Dave");
+
+		snapshots.put(dave, "person", document);
+
+		assertThat(snapshots.get(dave, "person"), is(document));
+		assertThat(snapshots.get(dave, "other"), is(nullValue()));
+		assertThat(snapshots.get(new Person("Dave"), "person"), is(nullValue()));
+
+		snapshots.remove(dave);
+		assertThat(snapshots.size(), is(0));
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.types.ObjectId;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Unit tests for {@link FindByIdBatcher}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class FindByIdBatcherUnitTests {
+
+	@Mock
+	MongoOperations operations;
+	@Mock
+	MongoDbFactory factory;
+
+	Person dave, carter;
+	FindByIdBatcher batcher;
+	ExecutorService executor;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+
+		dave = new Person(new ObjectId(), "Dave");
+		carter = new Person(new ObjectId(), "Carter");
+
+		MappingMongoConverter converter = new MappingMongoConverter(factory, new MongoMappingContext());
+		converter.afterPropertiesSet();
+
+		List<DBObject> documents = Arrays.<DBObject> asList(new BasicDBObject("_id", dave.getId()), new BasicDBObject(
+				"_id", carter.getId()));
+
+		when(operations.getConverter()).thenReturn(converter);
+		when(operations.getCollectionName(Person.class)).thenReturn("person");
+		when(operations.execute(eq("person"), any(CollectionCallback.class))).thenReturn(documents);
+
+		batcher = new FindByIdBatcher(operations);
+		executor = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void coalescesConcurrentLookupsIntoSingleQuery() throws Exception {
+
+		batcher.setBatchWindow(10, TimeUnit.SECONDS);
+		batcher.setMaxBatchSize(2);
+
+		Future<Person> first = lookupInBackground(dave.getId());
+		Person second = batcher.findById(carter.getId(), Person.class);
+
+		assertThat(first.get(5, TimeUnit.SECONDS), is(dave));
+		assertThat(second, is(carter));
+
+		verify(operations, times(1)).execute(eq("person"), any(CollectionCallback.class));
+		assertThat(batcher.getRequestCount(), is(2L));
+		assertThat(batcher.getQueryCount(), is(1L));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void deduplicatesIdenticalIdsButHandsOutSeparateInstances() throws Exception {
+
+		batcher.setBatchWindow(500, TimeUnit.MILLISECONDS);
+
+		Future<Person> first = lookupInBackground(dave.getId());
+		Person second = batcher.findById(dave.getId().toString(), Person.class);
+		Person result = first.get(5, TimeUnit.SECONDS);
+
+		assertThat(result, is(dave));
+		assertThat(second, is(dave));
+		assertThat(second, is(not(sameInstance(result))));
+
+		verify(operations, times(1)).execute(eq("person"), any(CollectionCallback.class));
+	}
+
+	@Test
+	public void returnsNullForUnknownId() {
+
+		batcher.setBatchWindow(0, TimeUnit.MILLISECONDS);
+
+		assertThat(batcher.findById(new ObjectId(), Person.class), is(nullValue()));
+	}
+
+	private Future<Person> lookupInBackground(final Object id) {
+
+		return executor.submit(new Callable<Person>() {
+			public Person call() throws Exception {
+				return batcher.findById(id, Person.class);
+			}
+		});
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Unit tests for {@link MongoCursorPublisher}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MongoCursorPublisherUnitTests {
+
+	@Mock
+	MongoOperations operations;
+	@Mock
+	CloseableIterator<Person> iterator;
+
+	Query query = new Query();
+	MongoCursorPublisher<Person> publisher;
+
+	@Before
+	public void setUp() {
+
+		when(operations.stream(query, Person.class, "person")).thenReturn(iterator);
+		this.publisher = new MongoCursorPublisher<Person>(operations, query, Person.class, "person");
+	}
+
+	@Test
+	public void doesNotOpenCursorBeforeDemandIsSignalled() {
+
+		publisher.subscribe(new CollectingSubscriber());
+		verifyZeroInteractions(operations);
+	}
+
+	@Test
+	public void onlyReadsAsManyElementsAsRequested() {
+
+		when(iterator.hasNext()).thenReturn(true);
+		when(iterator.next()).thenReturn(new Person("Dave"), new Person("Carter"), new Person("Boyd"));
+
+		CollectingSubscriber subscriber = new CollectingSubscriber();
+		publisher.subscribe(subscriber);
+
+		subscriber.subscription.request(2);
+
+		assertThat(subscriber.elements.size(), is(2));
+		verify(iterator, times(2)).next();
+
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.elements.size(), is(3));
+		verify(iterator, times(3)).next();
+	}
+
+	@Test
+	public void completesOnceCursorIsExhausted() {
+
+		when(iterator.hasNext()).thenReturn(true, false);
+		when(iterator.next()).thenReturn(new Person("Dave"));
+
+		CollectingSubscriber subscriber = new CollectingSubscriber();
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		assertThat(subscriber.elements.size(), is(1));
+		assertThat(subscriber.completed, is(true));
+	}
+
+	@Test
+	public void closesCursorOnCancel() {
+
+		when(iterator.hasNext()).thenReturn(true);
+		when(iterator.next()).thenReturn(new Person("Dave"));
+
+		CollectingSubscriber subscriber = new CollectingSubscriber();
+		publisher.subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+		subscriber.subscription.cancel();
+		subscriber.subscription.request(1);
+
+		verify(iterator, times(1)).close();
+		verify(iterator, times(1)).next();
+	}
+
+	@Test
+	public void signalsErrorForNonPositiveRequest() {
+
+		CollectingSubscriber subscriber = new CollectingSubscriber();
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(0);
+
+		assertThat(subscriber.error, is(instanceOf(IllegalArgumentException.class)));
+	}
+
+	@Test
+	public void signalsErrorIfReadingFails() {
+
+		RuntimeException exception = new RuntimeException();
+		when(iterator.hasNext()).thenThrow(exception);
+
+		CollectingSubscriber subscriber = new CollectingSubscriber();
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.error, is((Throwable) exception));
+		verify(iterator, times(1)).close();
+	}
+
+	static class CollectingSubscriber implements Subscriber<Person> {
+
+		Subscription subscription;
+		List<Person> elements = new ArrayList<Person>();
+		Throwable error;
+		boolean completed;
+
+		public void onSubscribe(Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		public void onNext(Person element) {
+			elements.add(element);
+		}
+
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		public void onComplete() {
+			this.completed = true;
+		}
+	}
+}
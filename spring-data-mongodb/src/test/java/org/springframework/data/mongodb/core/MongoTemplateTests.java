@@ -1125,6 +1125,23 @@ public class MongoTemplateTests {
 		template.remove(query(where("id").is(id)), TypeWithMyId.class);
 	}
 
+	@Test
+	public void streamsEntitiesMatchingQuery() {
+
+		template.insert(Arrays.asList(new Person("Dave", 35), new Person("Carter", 34), new Person("Boyd", 42)),
+				Person.class);
+
+		CloseableIterator<Person> iterator = template.stream(query(where("age").gt(34)), Person.class);
+		List<Person> result = new ArrayList<Person>();
+
+		while (iterator.hasNext()) {
+			result.add(iterator.next());
+		}
+
+		assertThat(result.size(), is(2));
+		assertThat(iterator.hasNext(), is(false));
+	}
+
 	static class MyId {
 
 		String first;
@@ -21,34 +21,58 @@ import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.MongoDbFactory;
 import org.springframework.data.mongodb.core.convert.CustomConversions;
 import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
 import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.Cached;
+import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Keyset;
+import org.springframework.data.mongodb.core.query.KeysetPage;
+import org.springframework.data.mongodb.core.query.Order;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.ReadPreferenceType;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
 import com.mongodb.DB;
 import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
 import com.mongodb.DBObject;
 import com.mongodb.Mongo;
 import com.mongodb.MongoException;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.WriteResult;
 
 /**
  * Unit tests for {@link MongoTemplate}.
@@ -172,6 +196,453 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		verify(collection, times(1)).update(Mockito.any(DBObject.class), eq(reference), anyBoolean(), anyBoolean());
 	}
 
+	@Test
+	public void streamClosesCursorOnceExhausted() {
+
+		this.converter.afterPropertiesSet();
+
+		DBCursor cursor = mock(DBCursor.class);
+		when(collection.find(Mockito.any(DBObject.class))).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(false);
+
+		CloseableIterator<Person> iterator = template.stream(new Query(), Person.class);
+
+		assertThat(iterator.hasNext(), is(false));
+		verify(cursor, times(1)).close();
+	}
+
+	@Test
+	public void streamClosesCursorIfConversionFails() {
+
+		this.converter.afterPropertiesSet();
+
+		DBCursor cursor = mock(DBCursor.class);
+		when(collection.find(Mockito.any(DBObject.class))).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true);
+		when(cursor.next()).thenThrow(new MongoException("Error!"));
+
+		CloseableIterator<Person> iterator = template.stream(new Query(), Person.class);
+
+		try {
+			iterator.next();
+			fail("Expected DataAccessException!");
+		} catch (DataAccessException e) {
+			verify(cursor, times(1)).close();
+		}
+
+		assertThat(iterator.hasNext(), is(false));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void insertsBatchInChunksBoundedByDocumentCount() {
+
+		this.converter.afterPropertiesSet();
+		template.setInsertBatchChunkSize(2);
+
+		template.insert(Arrays.asList(new Person("Dave"), new Person("Carter"), new Person("Boyd"), new Person("Stefan"),
+				new Person("Leroi")), Person.class);
+
+		verify(collection, times(3)).insert(Mockito.anyList());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void insertsBatchInChunksBoundedByEstimatedBytes() {
+
+		this.converter.afterPropertiesSet();
+		template.setInsertBatchChunkBytes(1);
+
+		template.insert(Arrays.asList(new Person("Dave"), new Person("Carter"), new Person("Boyd")), Person.class);
+
+		verify(collection, times(3)).insert(Mockito.anyList());
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void convertsBatchConcurrentlyPreservingOrder() {
+
+		this.converter.afterPropertiesSet();
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		template.setBatchConversionExecutor(executor);
+
+		List<Person> people = new ArrayList<Person>();
+		for (int i = 0; i < 50; i++) {
+			people.add(new Person("Person" + i));
+		}
+
+		try {
+			template.insert(people, Person.class);
+		} finally {
+			executor.shutdown();
+		}
+
+		ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection, times(1)).insert(captor.capture());
+
+		List<DBObject> dbObjects = captor.getValue();
+		assertThat(dbObjects.size(), is(50));
+
+		for (int i = 0; i < 50; i++) {
+			assertThat(dbObjects.get(i).get("firstName"), is((Object) ("Person" + i)));
+		}
+	}
+
+	@Test
+	public void readsAndConvertsPipelinedPreservingCursorOrder() {
+
+		this.converter.afterPropertiesSet();
+
+		List<DBObject> documents = new ArrayList<DBObject>();
+		for (int i = 0; i < 250; i++) {
+			documents.add(new BasicDBObject("firstName", "Person" + i));
+		}
+
+		DBCursor cursor = mock(DBCursor.class);
+		when(collection.find(Mockito.any(DBObject.class))).thenReturn(cursor);
+		when(cursor.iterator()).thenReturn(documents.iterator());
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		template.setReadConversionExecutor(executor);
+
+		List<Person> result;
+
+		try {
+			result = template.findAll(Person.class);
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(result.size(), is(250));
+
+		for (int i = 0; i < 250; i++) {
+			assertThat(result.get(i).getFirstName(), is("Person" + i));
+		}
+	}
+
+	@Test
+	public void reusesPreparedCollectionUntilDropped() {
+
+		when(db.getName()).thenReturn("database");
+		when(collection.getDB()).thenReturn(db);
+		when(collection.getFullName()).thenReturn("database.collection");
+
+		template.setReadPreference(ReadPreference.SECONDARY);
+		template.count(null, "collection");
+		template.count(null, "collection");
+
+		verify(db, times(1)).getCollection("collection");
+		verify(collection, times(1)).setReadPreference(ReadPreference.SECONDARY);
+
+		template.dropCollection("collection");
+		template.count(null, "collection");
+
+		verify(db, times(2)).getCollection("collection");
+	}
+
+	@Test
+	public void changingReadPreferenceInvalidatesPreparedCollections() {
+
+		when(db.getName()).thenReturn("database");
+		when(collection.getDB()).thenReturn(db);
+
+		template.count(null, "collection");
+		template.setReadPreference(ReadPreference.SECONDARY);
+		template.count(null, "collection");
+
+		verify(db, times(2)).getCollection("collection");
+		verify(collection, times(1)).setReadPreference(ReadPreference.SECONDARY);
+	}
+
+	@Test
+	public void doesNotCreateEventsWithoutListeners() {
+
+		template.setApplicationContext(new GenericApplicationContext());
+		template.save(new Person("Dave"));
+
+		assertThat(template.getEmittedEventCount(), is(0L));
+	}
+
+	@Test
+	public void onlyCreatesEventsListenersAreRegisteredFor() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBeanDefinition("listener", new RootBeanDefinition(BeforeSaveListener.class));
+
+		template.setApplicationContext(context);
+		template.save(new Person("Dave"));
+
+		assertThat(template.getEmittedEventCount(), is(1L));
+	}
+
+	@Test
+	public void servesCachedResultsUntilCollectionIsWrittenTo() {
+
+		this.converter.afterPropertiesSet();
+		template.setEntityCache(new LruEntityCache());
+
+		List<DBObject> documents = Collections.<DBObject> singletonList(new BasicDBObject("name", "Dave"));
+
+		DBCursor cursor = mock(DBCursor.class);
+		when(collection.find(Mockito.any(DBObject.class))).thenReturn(cursor);
+		when(cursor.iterator()).thenReturn(documents.iterator(), documents.iterator());
+
+		assertThat(template.findAll(CachedEntity.class, "collection").get(0).name, is("Dave"));
+		assertThat(template.findAll(CachedEntity.class, "collection").get(0).name, is("Dave"));
+		verify(collection, times(1)).find(Mockito.any(DBObject.class));
+
+		template.save(new CachedEntity(), "collection");
+
+		assertThat(template.findAll(CachedEntity.class, "collection").get(0).name, is("Dave"));
+		verify(collection, times(2)).find(Mockito.any(DBObject.class));
+	}
+
+	@Test
+	public void listenersCannotModifyCachedDocuments() {
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBeanDefinition("listener", new RootBeanDefinition(ModifyingAfterLoadListener.class));
+		context.refresh();
+
+		this.converter.afterPropertiesSet();
+		template.setApplicationContext(context);
+		template.setEntityCache(new LruEntityCache());
+
+		List<DBObject> documents = Collections.<DBObject> singletonList(new BasicDBObject("name", "Dave"));
+
+		DBCursor cursor = mock(DBCursor.class);
+		when(collection.find(Mockito.any(DBObject.class))).thenReturn(cursor);
+		when(cursor.iterator()).thenReturn(documents.iterator());
+
+		assertThat(template.findAll(CachedEntity.class, "collection").get(0).name, is("Dave!"));
+		assertThat(template.findAll(CachedEntity.class, "collection").get(0).name, is("Dave!"));
+		assertThat(documents.get(0).get("name"), is((Object) "Dave"));
+		verify(collection, times(1)).find(Mockito.any(DBObject.class));
+	}
+
+	@Test
+	public void doesNotCacheResultsOfTypesNotAnnotatedWithCached() {
+
+		this.converter.afterPropertiesSet();
+		template.setEntityCache(new LruEntityCache());
+
+		DBCursor cursor = mock(DBCursor.class);
+		when(collection.find(Mockito.any(DBObject.class))).thenReturn(cursor);
+		when(cursor.iterator()).thenReturn(Collections.<DBObject> emptyList().iterator());
+
+		template.findAll(Person.class, "collection");
+		template.findAll(Person.class, "collection");
+
+		verify(collection, times(2)).find(Mockito.any(DBObject.class));
+	}
+
+	@Test
+	public void savesOnlyChangedFieldsOfTrackedEntity() {
+
+		this.converter.afterPropertiesSet();
+		template.setDirtyTracking(true);
+		template.setWriteConcern(WriteConcern.SAFE);
+
+		ObjectId id = new ObjectId();
+		DBObject document = new BasicDBObject();
+		converter.write(new Person(id, "Dave"), document);
+
+		WriteResult result = mock(WriteResult.class);
+		when(result.getN()).thenReturn(1);
+		when(collection.findOne(Mockito.any(DBObject.class))).thenReturn(document);
+		when(collection.update(Mockito.any(DBObject.class), Mockito.any(DBObject.class), Mockito.anyBoolean(),
+				Mockito.anyBoolean(), Mockito.any(WriteConcern.class))).thenReturn(result);
+
+		Person person = template.findOne(new Query(), Person.class, "collection");
+		person.setFirstName("Carter");
+		template.save(person, "collection");
+
+		DBObject update = new BasicDBObject("$set", new BasicDBObject("firstName", "Carter"));
+		verify(collection, times(1)).update(new BasicDBObject("_id", id), update, false, false, WriteConcern.SAFE);
+		verify(collection, never()).save(Mockito.any(DBObject.class));
+		verify(collection, never()).save(Mockito.any(DBObject.class), Mockito.any(WriteConcern.class));
+	}
+
+	@Test
+	public void savesWholeDocumentOfTrackedEntityForUnacknowledgedWrites() {
+
+		this.converter.afterPropertiesSet();
+		template.setDirtyTracking(true);
+		when(collection.getWriteConcern()).thenReturn(WriteConcern.NONE);
+
+		DBObject document = new BasicDBObject();
+		converter.write(new Person(new ObjectId(), "Dave"), document);
+		when(collection.findOne(Mockito.any(DBObject.class))).thenReturn(document);
+
+		Person person = template.findOne(new Query(), Person.class, "collection");
+		person.setFirstName("Carter");
+		template.save(person, "collection");
+
+		verify(collection, times(1)).save(Mockito.any(DBObject.class));
+		verify(collection, never()).update(Mockito.any(DBObject.class), Mockito.any(DBObject.class),
+				Mockito.anyBoolean(), Mockito.anyBoolean(), Mockito.any(WriteConcern.class));
+	}
+
+	@Test
+	public void savesWholeDocumentOfUntrackedEntity() {
+
+		this.converter.afterPropertiesSet();
+		template.setDirtyTracking(true);
+
+		template.save(new Person("Dave"), "collection");
+
+		verify(collection, times(1)).save(Mockito.any(DBObject.class));
+		verify(collection, never()).update(Mockito.any(DBObject.class), Mockito.any(DBObject.class));
+	}
+
+	@Test
+	public void recordsOperationMetricsPerCollection() {
+
+		this.converter.afterPropertiesSet();
+
+		OperationMetrics metrics = new OperationMetrics();
+		template.setOperationMetrics(metrics);
+
+		DBObject document = new BasicDBObject();
+		converter.write(new Person(new ObjectId(), "Dave"), document);
+		when(collection.findOne(Mockito.any(DBObject.class))).thenReturn(document);
+
+		template.findOne(new Query(), Person.class, "collection");
+		template.save(new Person("Dave"), "collection");
+
+		OperationStatistics find = metrics.getStatistics("collection", MongoActionOperation.FIND);
+		assertThat(find.getExecutionCount(), is(1L));
+		assertThat(find.getDocumentCount(), is(1L));
+		assertThat(find.getBytesConverted() > 0, is(true));
+
+		OperationStatistics save = metrics.getStatistics("collection", MongoActionOperation.SAVE);
+		assertThat(save.getExecutionCount(), is(1L));
+		assertThat(save.getDocumentCount(), is(1L));
+		assertThat(metrics.getStatistics("collection", MongoActionOperation.INSERT), is(nullValue()));
+	}
+
+	@Test
+	public void readsWithReadPreferenceOfEntity() {
+
+		this.converter.afterPropertiesSet();
+
+		template.findOne(new Query(), SecondaryEntity.class, "collection");
+		verify(collection, times(1)).findOne(new BasicDBObject(), null, ReadPreference.SECONDARY);
+	}
+
+	@Test
+	public void findAllUsesReadPreferenceOfEntity() {
+
+		this.converter.afterPropertiesSet();
+
+		DBCursor cursor = mock(DBCursor.class);
+		when(collection.find(Mockito.any(DBObject.class))).thenReturn(cursor);
+		when(cursor.iterator()).thenReturn(Collections.<DBObject> emptyList().iterator());
+
+		template.findAll(SecondaryEntity.class, "collection");
+		verify(cursor, times(1)).setReadPreference(ReadPreference.SECONDARY);
+	}
+
+	@Test
+	public void readPreferenceOfQueryOverridesTheOneOfTheEntity() {
+
+		this.converter.afterPropertiesSet();
+
+		template.findOne(new Query().readPreference(ReadPreference.PRIMARY), SecondaryEntity.class, "collection");
+		verify(collection, times(1)).findOne(new BasicDBObject(), null, ReadPreference.PRIMARY);
+	}
+
+	@Test
+	public void abortsReadingResultsOnceMaxTimeIsExceeded() {
+
+		this.converter.afterPropertiesSet();
+
+		Iterator<DBObject> slowIterator = new Iterator<DBObject>() {
+
+			public boolean hasNext() {
+				return true;
+			}
+
+			public DBObject next() {
+				try {
+					Thread.sleep(5);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return new BasicDBObject("firstName", "Dave");
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+
+		DBCursor cursor = mock(DBCursor.class);
+		when(collection.find(Mockito.any(DBObject.class))).thenReturn(cursor);
+		when(cursor.addSpecial(anyString(), any())).thenReturn(cursor);
+		when(cursor.iterator()).thenReturn(slowIterator);
+
+		try {
+			template.find(new Query().maxTime(20, TimeUnit.MILLISECONDS), Person.class, "collection");
+			fail("Expected QueryTimeoutException!");
+		} catch (QueryTimeoutException e) {
+			verify(cursor).addSpecial("$maxTimeMS", 20L);
+			verify(cursor).close();
+		}
+	}
+
+	@Test
+	public void recordsSlowFindOneWithMappedQuery() {
+
+		this.converter.afterPropertiesSet();
+
+		SlowQueryLog slowQueryLog = new SlowQueryLog(0, TimeUnit.MILLISECONDS);
+		template.setSlowQueryLog(slowQueryLog);
+
+		template.findOne(new Query(Criteria.where("firstName").is("Dave")), Person.class, "collection");
+
+		List<SlowQuery> slowQueries = slowQueryLog.getSlowQueries();
+		assertThat(slowQueries.size(), is(1));
+		assertThat(slowQueries.get(0).getCollectionName(), is("collection"));
+		assertThat(slowQueries.get(0).getQuery(), is((DBObject) new BasicDBObject("firstName", "Dave")));
+	}
+
+	@Test
+	public void readsKeysetPageAfterKeysOfLastDocument() {
+
+		this.converter.afterPropertiesSet();
+
+		ObjectId id = new ObjectId();
+		List<DBObject> documents = Arrays.<DBObject> asList(new BasicDBObject("_id", id).append("age", 42),
+				new BasicDBObject("_id", new ObjectId()).append("age", 43));
+
+		DBCursor cursor = mock(DBCursor.class);
+		when(collection.find(Mockito.any(DBObject.class))).thenReturn(cursor);
+		when(cursor.skip(anyInt())).thenReturn(cursor);
+		when(cursor.limit(anyInt())).thenReturn(cursor);
+		when(cursor.sort(Mockito.any(DBObject.class))).thenReturn(cursor);
+		when(cursor.iterator()).thenReturn(documents.iterator());
+
+		Query query = new Query();
+		query.sort().on("age", Order.ASCENDING);
+		Keyset keyset = new Keyset(1, new BasicDBObject("age", 41).append("_id", id));
+
+		KeysetPage<Person> page = template.findKeysetPage(query, keyset, Person.class, "collection");
+
+		assertThat(page.getContent().size(), is(1));
+		assertThat(page.hasNext(), is(true));
+		assertThat(page.nextKeyset().getKeys(), is((DBObject) new BasicDBObject("age", 42).append("_id", id)));
+
+		BasicDBList clauses = new BasicDBList();
+		clauses.add(new BasicDBObject("age", new BasicDBObject("$gt", 41)));
+		clauses.add(new BasicDBObject("age", 41).append("_id", new BasicDBObject("$gt", id)));
+
+		verify(collection).find(new BasicDBObject("$or", clauses));
+		verify(cursor).limit(2);
+		verify(cursor).sort(new BasicDBObject("age", 1).append("_id", 1));
+	}
+
 	class AutogenerateableId {
 
 		@Id
@@ -184,6 +655,21 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		Integer id;
 	}
 
+	static class BeforeSaveListener extends AbstractMongoEventListener<Person> {
+
+		@Override
+		public void onBeforeSave(Person source, DBObject dbo) {
+		}
+	}
+
+	static class ModifyingAfterLoadListener extends AbstractMongoEventListener<CachedEntity> {
+
+		@Override
+		public void onAfterLoad(DBObject dbo) {
+			dbo.put("name", dbo.get("name") + "!");
+		}
+	}
+
 	enum MyConverter implements Converter<AutogenerateableId, String> {
 
 		INSTANCE;
@@ -198,6 +684,21 @@ public class MongoTemplateUnitTests extends MongoOperationsUnitTests {
 		AutogenerateableId foo;
 	}
 
+	@Cached
+	static class CachedEntity {
+
+		@Id
+		ObjectId id;
+		String name;
+	}
+
+	@Document(readPreference = ReadPreferenceType.SECONDARY)
+	static class SecondaryEntity {
+
+		@Id
+		ObjectId id;
+	}
+
 	/**
 	 * Mocks out the {@link MongoTemplate#getDb()} method to return the {@link DB} mock instead of executing the actual
 	 * behaviour.
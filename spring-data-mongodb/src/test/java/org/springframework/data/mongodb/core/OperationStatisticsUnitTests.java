@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link OperationStatistics}.
+ */
+public class OperationStatisticsUnitTests {
+
+	@Test
+	public void bucketsContainTheirLowestValue() {
+
+		for (long value : new long[] { 0, 1, 15, 16, 17, 31, 32, 33, 1000, 123456789, Long.MAX_VALUE }) {
+
+			int index = OperationStatistics.bucketIndex(value);
+
+			assertThat(OperationStatistics.lowestValue(index) <= value, is(true));
+			assertThat(index + 1 == 960 || OperationStatistics.lowestValue(index + 1) > value, is(true));
+		}
+	}
+
+	@Test
+	public void keepsRelativeErrorOfPercentilesSmall() {
+
+		OperationStatistics statistics = new OperationStatistics();
+
+		for (int i = 1; i <= 1000; i++) {
+			statistics.recordExecution(TimeUnit.MICROSECONDS.toNanos(i));
+		}
+
+		assertThat(statistics.getExecutionCount(), is(1000L));
+		assertThat(statistics.getMaxExecutionTime(TimeUnit.MICROSECONDS), is(1000L));
+		assertThat(statistics.getMeanExecutionTime(TimeUnit.NANOSECONDS), is(500500L));
+
+		long median = statistics.getExecutionTimePercentile(50, TimeUnit.MICROSECONDS);
+		assertThat(median >= 500 && median <= 500 * 1.07, is(true));
+
+		long p99 = statistics.getExecutionTimePercentile(99, TimeUnit.MICROSECONDS);
+		assertThat(p99 >= 990 && p99 <= 1000, is(true));
+	}
+
+	@Test
+	public void recordsConversionSeparatelyFromExecution() {
+
+		OperationStatistics statistics = new OperationStatistics();
+		statistics.recordConversion(TimeUnit.MILLISECONDS.toNanos(5), 10, 1024);
+
+		assertThat(statistics.getExecutionCount(), is(0L));
+		assertThat(statistics.getExecutionTimePercentile(50, TimeUnit.MICROSECONDS), is(0L));
+		assertThat(statistics.getConversionTime(TimeUnit.MILLISECONDS), is(5L));
+		assertThat(statistics.getDocumentCount(), is(10L));
+		assertThat(statistics.getBytesConverted(), is(1024L));
+	}
+
+	@Test
+	public void resetsStatistics() {
+
+		OperationStatistics statistics = new OperationStatistics();
+		statistics.recordExecution(100);
+		statistics.recordConversion(100, 1, 1);
+		statistics.reset();
+
+		assertThat(statistics.getExecutionCount(), is(0L));
+		assertThat(statistics.getMaxExecutionTime(TimeUnit.NANOSECONDS), is(0L));
+		assertThat(statistics.getDocumentCount(), is(0L));
+	}
+
+	@Test
+	public void metricsResetStatisticsInPlace() {
+
+		OperationMetrics metrics = new OperationMetrics();
+		metrics.recordExecution("collection", MongoActionOperation.FIND, 100);
+
+		OperationStatistics statistics = metrics.getStatistics("collection", MongoActionOperation.FIND);
+		metrics.reset();
+
+		assertThat(metrics.getStatistics("collection", MongoActionOperation.FIND), is(sameInstance(statistics)));
+		assertThat(statistics.getExecutionCount(), is(0L));
+	}
+}
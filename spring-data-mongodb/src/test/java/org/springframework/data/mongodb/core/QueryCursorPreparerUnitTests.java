@@ -17,8 +17,11 @@ package org.springframework.data.mongodb.core;
 
 import static org.springframework.data.mongodb.core.query.Query.*;
 import static org.springframework.data.mongodb.core.query.Criteria.*;
+import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -27,6 +30,7 @@ import org.springframework.data.mongodb.MongoDbFactory;
 import org.springframework.data.mongodb.core.MongoTemplate.QueryCursorPreparer;
 import org.springframework.data.mongodb.core.query.Query;
 
+import com.mongodb.Bytes;
 import com.mongodb.DBCursor;
 
 /**
@@ -55,4 +59,34 @@ public class QueryCursorPreparerUnitTests {
 
 		verify(cursor).hint("hint");
 	}
+
+	@Test
+	public void appliesBatchSizeAndCursorOptions() {
+
+		Query query = query(where("foo").is("bar")).batchSize(500).noCursorTimeout().partialResults();
+
+		when(cursor.batchSize(anyInt())).thenReturn(cursor);
+		when(cursor.addOption(anyInt())).thenReturn(cursor);
+
+		CursorPreparer preparer = new MongoTemplate(factory).new QueryCursorPreparer(query);
+		preparer.prepare(cursor);
+
+		verify(cursor).batchSize(500);
+		verify(cursor).addOption(Bytes.QUERYOPTION_NOTIMEOUT);
+		verify(cursor).addOption(Bytes.QUERYOPTION_PARTIAL);
+		verify(cursor, never()).addOption(Bytes.QUERYOPTION_EXHAUST);
+	}
+
+	@Test
+	public void appliesMaxTimeAsQueryModifier() {
+
+		Query query = query(where("foo").is("bar")).maxTime(2, TimeUnit.SECONDS);
+
+		when(cursor.addSpecial(anyString(), any())).thenReturn(cursor);
+
+		CursorPreparer preparer = new MongoTemplate(factory).new QueryCursorPreparer(query);
+		preparer.prepare(cursor);
+
+		verify(cursor).addSpecial("$maxTimeMS", 2000L);
+	}
 }
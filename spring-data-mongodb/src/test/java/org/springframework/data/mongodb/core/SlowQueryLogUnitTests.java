@@ -0,0 +1,118 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
+
+/**
+ * Unit tests for {@link SlowQueryLog}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SlowQueryLogUnitTests {
+
+	static final Executor SAME_THREAD = new Executor() {
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	@Mock
+	DBCursor cursor;
+	@Mock
+	SlowQuerySink sink;
+
+	@Test
+	public void onlyConsidersQueriesExceedingThresholdSlow() {
+
+		SlowQueryLog log = new SlowQueryLog(100, TimeUnit.MILLISECONDS);
+
+		assertThat(log.isSlow(TimeUnit.MILLISECONDS.toNanos(99)), is(false));
+		assertThat(log.isSlow(TimeUnit.MILLISECONDS.toNanos(100)), is(true));
+	}
+
+	@Test
+	public void keepsMostRecentQueriesOnly() {
+
+		SlowQueryLog log = new SlowQueryLog(0, TimeUnit.MILLISECONDS, 2);
+
+		SlowQuery first = slowQuery("first");
+		SlowQuery second = slowQuery("second");
+		SlowQuery third = slowQuery("third");
+
+		log.record(first, null);
+		log.record(second, null);
+		log.record(third, null);
+
+		List<SlowQuery> slowQueries = log.getSlowQueries();
+		assertThat(slowQueries.size(), is(2));
+		assertThat(slowQueries.get(0), is(second));
+		assertThat(slowQueries.get(1), is(third));
+		assertThat(log.getSlowQueryCount(), is(3L));
+	}
+
+	@Test
+	public void capturesPlanBeforeWritingToSink() {
+
+		DBObject plan = new BasicDBObject("nscanned", 1000).append("n", 10);
+		when(cursor.explain()).thenReturn(plan);
+
+		SlowQueryLog log = new SlowQueryLog(0, TimeUnit.MILLISECONDS);
+		log.setExplainExecutor(SAME_THREAD);
+		log.setSink(sink);
+
+		SlowQuery slowQuery = slowQuery("collection");
+		log.record(slowQuery, cursor);
+
+		verify(sink).write(slowQuery);
+		assertThat(slowQuery.getExplain(), is(plan));
+		assertThat(slowQuery.getScanned(), is(1000L));
+		assertThat(slowQuery.getReturned(), is(10L));
+	}
+
+	@Test
+	public void doesNotExplainWithoutExecutor() {
+
+		SlowQueryLog log = new SlowQueryLog(0, TimeUnit.MILLISECONDS);
+		log.setSink(sink);
+
+		SlowQuery slowQuery = slowQuery("collection");
+		log.record(slowQuery, cursor);
+
+		verify(sink).write(slowQuery);
+		verify(cursor, never()).explain();
+		assertThat(slowQuery.getScanned(), is(-1L));
+	}
+
+	private static SlowQuery slowQuery(String collectionName) {
+		return new SlowQuery(collectionName, MongoActionOperation.FIND, new BasicDBObject("name", "Dave"), null, null,
+				null, TimeUnit.MILLISECONDS.toNanos(150));
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.MongoDbFactory;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Unit tests for {@link WriteBehindMongoTemplate}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class WriteBehindMongoTemplateUnitTests {
+
+	@Mock
+	MongoOperations operations;
+	@Mock
+	BulkOperations bulkOperations;
+	@Mock
+	MongoDbFactory factory;
+
+	WriteBehindMongoTemplate template;
+
+	@Before
+	public void setUp() {
+
+		when(operations.getConverter()).thenReturn(new MappingMongoConverter(factory, new MongoMappingContext()));
+		when(operations.getCollectionName(Person.class)).thenReturn("person");
+		when(operations.bulkOps(any(BulkMode.class), anyString())).thenReturn(bulkOperations);
+
+		this.template = new WriteBehindMongoTemplate(operations);
+	}
+
+	@Test
+	public void buffersWritesUntilFlushed() {
+
+		template.save(new Person(new ObjectId(), "Dave"));
+		template.insert(new Person("Carter"));
+
+		verifyZeroInteractions(bulkOperations);
+		assertThat(template.getQueueDepth(), is(2));
+
+		template.flush();
+
+		verify(bulkOperations, times(1)).save(any(DBObject.class));
+		verify(bulkOperations, times(1)).execute();
+		assertThat(template.getQueueDepth(), is(0));
+		assertThat(template.getFlushCount(), is(1L));
+	}
+
+	@Test
+	public void coalescesSavesOfSameId() {
+
+		Person person = new Person(new ObjectId(), "Dave");
+		template.save(person);
+		person.setFirstName("Carter");
+		template.save(person);
+
+		assertThat(template.getQueueDepth(), is(1));
+		assertThat(template.getCoalescedWriteCount(), is(1L));
+
+		template.flush();
+
+		ArgumentCaptor<DBObject> captor = ArgumentCaptor.forClass(DBObject.class);
+		verify(bulkOperations, times(1)).save(captor.capture());
+		assertThat(captor.getValue().get("firstName"), is((Object) "Carter"));
+	}
+
+	@Test
+	public void keepsSubmissionOrderOfWritesWithAndWithoutId() {
+
+		template.save(new Person(new ObjectId(), "Dave"));
+		template.insert(new BasicDBObject("firstName", "Carter"), "person");
+
+		template.flush();
+
+		InOrder inOrder = inOrder(bulkOperations);
+		inOrder.verify(bulkOperations).save(any(DBObject.class));
+		inOrder.verify(bulkOperations).insert(any(DBObject.class));
+		inOrder.verify(bulkOperations).execute();
+	}
+
+	@Test
+	public void assignsIdToNewObjectsSoThatRepeatedSavesAreCoalesced() {
+
+		Person person = new Person(null, "Dave");
+		template.save(person);
+		template.save(person);
+
+		assertThat(person.getId(), is(notNullValue()));
+		assertThat(template.getQueueDepth(), is(1));
+		assertThat(template.getCoalescedWriteCount(), is(1L));
+	}
+
+	@Test
+	public void requeuesWritesOfFailedFlushAsSaves() {
+
+		when(bulkOperations.execute()).thenThrow(new DataAccessResourceFailureException("error")).thenReturn(null);
+
+		template.insert(new Person(new ObjectId(), "Dave"));
+
+		try {
+			template.flush();
+			fail("Expected DataAccessResourceFailureException!");
+		} catch (DataAccessResourceFailureException e) {
+			// expected
+		}
+
+		assertThat(template.getQueueDepth(), is(1));
+		assertThat(template.getFailedFlushCount(), is(1L));
+
+		template.flush();
+
+		verify(bulkOperations, times(1)).insert(any(DBObject.class));
+		verify(bulkOperations, times(1)).save(any(DBObject.class));
+		assertThat(template.getQueueDepth(), is(0));
+	}
+
+	@Test
+	public void flushesOnceMaxBufferSizeIsReached() {
+
+		template.setMaxBufferSize(2);
+
+		template.save(new Person(new ObjectId(), "Dave"));
+		verify(bulkOperations, never()).execute();
+
+		template.save(new Person(new ObjectId(), "Carter"));
+		verify(bulkOperations, times(1)).execute();
+	}
+
+	@Test
+	public void closeFlushesAndRejectsFurtherWrites() {
+
+		template.save(new Person(new ObjectId(), "Dave"));
+		template.close();
+
+		verify(bulkOperations, times(1)).execute();
+
+		try {
+			template.save(new Person(new ObjectId(), "Carter"));
+			fail("Expected IllegalStateException!");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+}
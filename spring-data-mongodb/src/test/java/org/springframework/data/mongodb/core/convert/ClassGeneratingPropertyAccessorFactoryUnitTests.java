@@ -0,0 +1,140 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.convert.ClassGeneratingPropertyAccessorFactory.GeneratedPropertyAccessor;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+/**
+ * Unit tests for {@link ClassGeneratingPropertyAccessorFactory}.
+ */
+public class ClassGeneratingPropertyAccessorFactoryUnitTests {
+
+	MongoMappingContext context;
+	ClassGeneratingPropertyAccessorFactory factory;
+
+	@Before
+	public void setUp() {
+		context = new MongoMappingContext();
+		factory = new ClassGeneratingPropertyAccessorFactory();
+	}
+
+	@Test
+	public void generatesAccessorForAccessibleFields() {
+
+		MongoPersistentEntity<?> entity = context.getPersistentEntity(Sample.class);
+		PersistentPropertyAccessor accessor = factory.getPropertyAccessor(entity);
+
+		assertThat(accessor, is(instanceOf(GeneratedPropertyAccessor.class)));
+
+		Sample sample = new Sample();
+		MongoPersistentProperty name = entity.getPersistentProperty("name");
+		MongoPersistentProperty age = entity.getPersistentProperty("age");
+
+		accessor.setProperty(sample, name, "Dave", true);
+		accessor.setProperty(sample, age, 42, true);
+
+		assertThat(sample.name, is("Dave"));
+		assertThat(sample.age, is(42));
+		assertThat(accessor.getProperty(sample, name, true), is((Object) "Dave"));
+		assertThat(accessor.getProperty(sample, age, true), is((Object) 42));
+	}
+
+	@Test
+	public void usesGettersAndSettersIfFieldAccessIsNotForced() {
+
+		MongoPersistentEntity<?> entity = context.getPersistentEntity(Sample.class);
+		PersistentPropertyAccessor accessor = factory.getPropertyAccessor(entity);
+		MongoPersistentProperty age = entity.getPersistentProperty("age");
+
+		Sample sample = new Sample();
+		accessor.setProperty(sample, age, 20, false);
+
+		assertThat(sample.age, is(21));
+		assertThat(accessor.getProperty(sample, age, false), is((Object) 22));
+	}
+
+	@Test
+	public void fallsBackToReflectionForPrivateFields() {
+
+		MongoPersistentEntity<?> entity = context.getPersistentEntity(Sample.class);
+		GeneratedPropertyAccessor accessor = (GeneratedPropertyAccessor) factory.getPropertyAccessor(entity);
+		MongoPersistentProperty secret = entity.getPersistentProperty("secret");
+
+		assertThat(accessor.isGenerated(secret, true), is(false));
+		assertThat(accessor.isGenerated(entity.getPersistentProperty("name"), true), is(true));
+
+		Sample sample = new Sample();
+		accessor.setProperty(sample, secret, "secret", true);
+
+		assertThat(accessor.getProperty(sample, secret, true), is((Object) "secret"));
+	}
+
+	@Test
+	public void usesReflectionIfNoMemberIsAccessible() {
+
+		MongoPersistentEntity<?> entity = context.getPersistentEntity(PrivateFields.class);
+		assertThat(factory.getPropertyAccessor(entity), is(ReflectionPropertyAccessor.INSTANCE));
+	}
+
+	@Test
+	public void cachesAccessorPerType() {
+
+		MongoPersistentEntity<?> entity = context.getPersistentEntity(Sample.class);
+		assertThat(factory.getPropertyAccessor(entity), is(sameInstance(factory.getPropertyAccessor(entity))));
+	}
+
+	@Test
+	public void sharesGeneratedClassesBetweenFactories() {
+
+		PersistentPropertyAccessor first = factory.getPropertyAccessor(context.getPersistentEntity(Sample.class));
+		PersistentPropertyAccessor second = new ClassGeneratingPropertyAccessorFactory().getPropertyAccessor(
+				new MongoMappingContext().getPersistentEntity(Sample.class));
+
+		assertThat(first, is(not(sameInstance(second))));
+		assertThat(first.getClass(), is(typeCompatibleWith(GeneratedPropertyAccessor.class)));
+		assertThat(second.getClass(), is(equalTo((Object) first.getClass())));
+	}
+
+	static class Sample {
+
+		String id;
+		String name;
+		int age;
+		private String secret;
+
+		public int getAge() {
+			return age + 1;
+		}
+
+		public void setAge(int age) {
+			this.age = age + 1;
+		}
+	}
+
+	static class PrivateFields {
+
+		private String id;
+		private String name;
+	}
+}
@@ -172,6 +172,50 @@ public class CustomConversionsUnitTests {
 		assertThat(conversions.hasCustomReadTarget(String.class, URL.class), is(true));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void returnsSameResultsForRepeatedLookups() {
+
+		CustomConversions conversions = new CustomConversions(Arrays.asList(FormatToStringConverter.INSTANCE,
+				StringToFormatConverter.INSTANCE));
+
+		for (int i = 0; i < 2; i++) {
+
+			assertThat(conversions.getCustomWriteTarget(Format.class, null), is(typeCompatibleWith(String.class)));
+			assertThat(conversions.getCustomWriteTarget(Format.class, String.class), is(typeCompatibleWith(String.class)));
+			assertThat(conversions.getCustomWriteTarget(Format.class, Long.class), is(nullValue()));
+			assertThat(conversions.getCustomWriteTarget(String.class, null), is(nullValue()));
+
+			assertThat(conversions.hasCustomReadTarget(String.class, Format.class), is(true));
+			assertThat(conversions.hasCustomReadTarget(String.class, Locale.class), is(false));
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void doesNotGrowCacheForRepeatedLookups() {
+
+		CustomConversions conversions = new CustomConversions(Arrays.asList(FormatToStringConverter.INSTANCE,
+				StringToFormatConverter.INSTANCE));
+
+		conversions.getCustomWriteTarget(Format.class, String.class);
+		conversions.getCustomWriteTarget(Format.class, null);
+		conversions.hasCustomReadTarget(String.class, Format.class);
+		conversions.hasCustomReadTarget(String.class, Locale.class);
+
+		int size = conversions.getCacheSize();
+		assertThat(size, is(4));
+
+		for (int i = 0; i < 100; i++) {
+			conversions.getCustomWriteTarget(Format.class, String.class);
+			conversions.getCustomWriteTarget(Format.class, null);
+			conversions.hasCustomReadTarget(String.class, Format.class);
+			conversions.hasCustomReadTarget(String.class, Locale.class);
+		}
+
+		assertThat(conversions.getCacheSize(), is(size));
+	}
+
 	enum FormatToStringConverter implements Converter<Format, String> {
 		INSTANCE;
 
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.convert.EntityConversionPlan.PropertyPlan;
+import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link EntityConversionPlan}.
+ */
+public class EntityConversionPlanUnitTests {
+
+	MongoMappingContext context;
+	CustomConversions conversions;
+
+	@Before
+	public void setUp() {
+		context = new MongoMappingContext();
+		conversions = new CustomConversions();
+	}
+
+	@Test
+	public void excludesConstructorArgumentsFromReadPlans() {
+
+		EntityConversionPlan plan = new EntityConversionPlan(context.getPersistentEntity(Sample.class), conversions);
+		List<String> fieldNames = getFieldNames(plan.getReadPlans());
+
+		assertThat(fieldNames.size(), is(3));
+		assertThat(fieldNames, hasItems("_id", "age", "nested"));
+	}
+
+	@Test
+	public void excludesIdPropertyFromWritePlans() {
+
+		EntityConversionPlan plan = new EntityConversionPlan(context.getPersistentEntity(Sample.class), conversions);
+
+		assertThat(plan.getIdProperty().getName(), is("id"));
+		List<String> fieldNames = getFieldNames(plan.getWritePlans());
+
+		assertThat(fieldNames.size(), is(3));
+		assertThat(fieldNames, hasItems("name", "age", "nested"));
+	}
+
+	@Test
+	public void resolvesSimpleValuesForFinalTypesUpFront() {
+
+		EntityConversionPlan plan = new EntityConversionPlan(context.getPersistentEntity(Sample.class), conversions);
+		PropertyPlan[] plans = plan.getWritePlans();
+
+		assertThat(getPlan(plans, "name").isSimpleValue("Dave", conversions), is(true));
+		assertThat(getPlan(plans, "age").isSimpleValue(42, conversions), is(true));
+		assertThat(getPlan(plans, "nested").isSimpleValue(new Sample("Dave"), conversions), is(false));
+	}
+
+	@Test
+	public void treatsAssociationsAsNonSimpleValues() {
+
+		EntityConversionPlan plan = new EntityConversionPlan(context.getPersistentEntity(Referring.class), conversions);
+		PropertyPlan[] plans = plan.getWritePlans();
+
+		assertThat(plans.length, is(1));
+		assertThat(plans[0].isAssociation(), is(true));
+		assertThat(plans[0].isSimpleValue(new Sample("Dave"), conversions), is(false));
+	}
+
+	private static PropertyPlan getPlan(PropertyPlan[] plans, String fieldName) {
+
+		for (PropertyPlan plan : plans) {
+			if (plan.getFieldName().equals(fieldName)) {
+				return plan;
+			}
+		}
+
+		throw new IllegalArgumentException("No plan found for " + fieldName);
+	}
+
+	private static List<String> getFieldNames(PropertyPlan[] plans) {
+
+		List<String> result = new ArrayList<String>();
+
+		for (PropertyPlan plan : plans) {
+			result.add(plan.getFieldName());
+		}
+
+		return result;
+	}
+
+	static class Sample {
+
+		String id;
+		final String name;
+		int age;
+		Sample nested;
+
+		Sample(String name) {
+			this.name = name;
+		}
+	}
+
+	static class Referring {
+
+		String id;
+		@DBRef
+		Sample sample;
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.util.ClassTypeInformation;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Unit tests for {@link TypeAliasRegistry}.
+ */
+public class TypeAliasRegistryUnitTests {
+
+	MongoMappingContext context;
+	TypeAliasRegistry registry;
+
+	@Before
+	public void setUp() {
+		context = new MongoMappingContext();
+		registry = new TypeAliasRegistry(context);
+	}
+
+	@Test
+	public void writesRegisteredIntegerAlias() {
+
+		registry.registerAlias(Plain.class, 1L);
+
+		assertThat(registry.createAliasFor(ClassTypeInformation.from(Plain.class)), is((Object) 1));
+		assertThat((Object) registry.resolveTypeFrom(1), is(typeFor(Plain.class)));
+		assertThat((Object) registry.resolveTypeFrom(1.0d), is(typeFor(Plain.class)));
+	}
+
+	@Test
+	public void writesAliasDeclaredOnEntity() {
+		assertThat(registry.createAliasFor(ClassTypeInformation.from(Aliased.class)), is((Object) "aliased"));
+	}
+
+	@Test
+	public void resolvesAliasDeclaredOnEntityKnownToMappingContext() {
+
+		context.getPersistentEntity(Aliased.class);
+		assertThat((Object) registry.resolveTypeFrom("aliased"), is(typeFor(Aliased.class)));
+	}
+
+	@Test
+	public void writesClassNameForTypeWithoutAlias() {
+		assertThat(registry.createAliasFor(ClassTypeInformation.from(Plain.class)), is((Object) Plain.class.getName()));
+	}
+
+	@Test
+	public void readsClassNamesOfAliasedTypes() {
+
+		registry.registerAlias(Plain.class, "p");
+		assertThat((Object) registry.resolveTypeFrom(Plain.class.getName()), is(typeFor(Plain.class)));
+	}
+
+	@Test
+	public void returnsNullForUnknownAlias() {
+		assertThat((Object) registry.resolveTypeFrom("unknown"), is(nullValue()));
+		assertThat((Object) registry.resolveTypeFrom(null), is(nullValue()));
+	}
+
+	@Test(expected = MappingException.class)
+	public void rejectsAliasRegisteredForDifferentType() {
+
+		registry.registerAlias(Plain.class, "p");
+		registry.registerAlias(Aliased.class, "p");
+	}
+
+	@Test(expected = MappingException.class)
+	public void rejectsAliasDeclaredOnDifferentEntities() {
+
+		registry.createAliasFor(ClassTypeInformation.from(Aliased.class));
+		registry.createAliasFor(ClassTypeInformation.from(AlsoAliased.class));
+	}
+
+	@Test
+	public void roundTripsThroughTypeMapper() {
+
+		registry.registerAlias(Plain.class, 1);
+		DefaultMongoTypeMapper mapper = new DefaultMongoTypeMapper(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, registry);
+
+		DBObject dbObject = new BasicDBObject();
+		mapper.writeType(Plain.class, dbObject);
+
+		assertThat(dbObject.get(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY), is((Object) 1));
+		assertThat((Object) mapper.readType(dbObject), is(typeFor(Plain.class)));
+	}
+
+	private static Object typeFor(Class<?> type) {
+		return ClassTypeInformation.from(type);
+	}
+
+	static class Plain {
+		String id;
+	}
+
+	@TypeAlias("aliased")
+	static class Aliased {
+		String id;
+	}
+
+	@TypeAlias("aliased")
+	static class AlsoAliased {
+		String id;
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.core.query;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * Unit tests for {@link Deadline}.
+ */
+public class DeadlineUnitTests {
+
+	@Test
+	public void reportsRemainingTime() {
+
+		Deadline deadline = Deadline.in(1, TimeUnit.HOURS);
+
+		assertThat(deadline.isExpired(), is(false));
+		assertThat(deadline.getRemaining(TimeUnit.MINUTES) > 58, is(true));
+	}
+
+	@Test(expected = QueryTimeoutException.class)
+	public void rejectsCheckOnceExpired() throws Exception {
+
+		Deadline deadline = Deadline.in(1, TimeUnit.MILLISECONDS);
+		Thread.sleep(5);
+
+		assertThat(deadline.getRemaining(TimeUnit.NANOSECONDS), is(0L));
+		deadline.check();
+	}
+
+	@Test
+	public void bindsDeadlineToCurrentThread() {
+
+		Deadline deadline = Deadline.in(1, TimeUnit.HOURS);
+		Deadline previous = Deadline.bind(deadline);
+
+		try {
+			assertThat(previous, is(nullValue()));
+			assertThat(Deadline.current(), is(deadline));
+		} finally {
+			Deadline.bind(previous);
+		}
+
+		assertThat(Deadline.current(), is(nullValue()));
+	}
+}
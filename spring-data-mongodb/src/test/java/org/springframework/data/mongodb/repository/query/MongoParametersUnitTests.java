@@ -28,6 +28,8 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.data.mongodb.core.geo.Distance;
 import org.springframework.data.mongodb.core.geo.GeoResults;
 import org.springframework.data.mongodb.core.geo.Point;
+import org.springframework.data.mongodb.core.query.Keyset;
+import org.springframework.data.mongodb.core.query.KeysetPage;
 import org.springframework.data.mongodb.repository.Near;
 import org.springframework.data.mongodb.repository.Person;
 import org.springframework.data.mongodb.repository.query.MongoParameters;
@@ -100,6 +102,16 @@ public class MongoParametersUnitTests {
 		assertThat(parameters.getNearIndex(), is(1));
 	}
 
+	@Test
+	public void discoversKeysetParameter() throws Exception {
+		Method method = PersonRepository.class.getMethod("findByLastname", String.class, Keyset.class);
+		MongoParameters parameters = new MongoParameters(method, false);
+
+		assertThat(parameters.getKeysetIndex(), is(1));
+		assertThat(parameters.getBindableParameters().getNumberOfParameters(), is(1));
+		assertThat(parameters.getParameter(1).isSpecialParameter(), is(true));
+	}
+
 	interface PersonRepository {
 
 		List<Person> findByLocationNear(Point point, Distance distance);
@@ -113,5 +125,7 @@ public class MongoParametersUnitTests {
 		GeoResults<Person> findByOtherLocationAndLocationNear(Point point, @Near Point anotherLocation);
 
 		GeoResults<Person> validDoubleArrays(double[] first, @Near double[] second);
+
+		KeysetPage<Person> findByLastname(String lastname, Keyset keyset);
 	}
 }
@@ -19,6 +19,7 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -32,13 +33,18 @@ import org.springframework.data.mongodb.core.geo.GeoResult;
 import org.springframework.data.mongodb.core.geo.GeoResults;
 import org.springframework.data.mongodb.core.geo.Point;
 import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.CursorOption;
+import org.springframework.data.mongodb.core.query.ReadPreferenceType;
 import org.springframework.data.mongodb.repository.Address;
 import org.springframework.data.mongodb.repository.Contact;
 import org.springframework.data.mongodb.repository.Person;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.support.DefaultEntityInformationCreator;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 
+import com.mongodb.ReadPreference;
+
 /**
  * Unit test for {@link MongoQueryMethod}.
  * 
@@ -115,6 +121,25 @@ public class MongoQueryMethodUnitTests {
 		assertThat(method.isCollectionQuery(), is(false));
 	}
 
+	@Test
+	public void exposesCursorSettingsFromQueryAnnotation() throws Exception {
+
+		MongoQueryMethod method = queryMethod("findByAddress", Address.class);
+		assertThat(method.getBatchSize(), is(100));
+		assertThat(Arrays.asList(method.getCursorOptions()), hasItem(CursorOption.NO_TIMEOUT));
+
+		method = queryMethod("findByFirstname", String.class, Point.class);
+		assertThat(method.getBatchSize(), is(0));
+		assertThat(method.getCursorOptions().length, is(0));
+	}
+
+	@Test
+	public void exposesReadPreferenceFromQueryAnnotation() throws Exception {
+
+		assertThat(queryMethod("findByLastname", String.class).getReadPreference(), is(ReadPreference.SECONDARY));
+		assertThat(queryMethod("findByAddress", Address.class).getReadPreference(), is(nullValue()));
+	}
+
 	private MongoQueryMethod queryMethod(String name, Class<?>... parameters) throws Exception {
 		Method method = PersonRepository.class.getMethod(name, parameters);
 		return new MongoQueryMethod(method, new DefaultRepositoryMetadata(PersonRepository.class), creator);
@@ -132,6 +157,12 @@ public class MongoQueryMethodUnitTests {
 		GeoResults<User> findByFirstname(String firstname, Point location);
 
 		Collection<GeoResult<User>> findByLastname(String lastname, Point location);
+
+		@Query(batchSize = 100, cursorOptions = CursorOption.NO_TIMEOUT)
+		List<User> findByAddress(Address address);
+
+		@Query(readPreference = ReadPreferenceType.SECONDARY)
+		List<User> findByLastname(String lastname);
 	}
 
 	interface SampleRepository extends Repository<Contact, Long> {
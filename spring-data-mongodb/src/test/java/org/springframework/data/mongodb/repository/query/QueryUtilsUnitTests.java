@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mongodb.repository.query;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Unit tests for {@link QueryUtils}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class QueryUtilsUnitTests {
+
+	@Mock
+	Callable<Long> count;
+
+	@Test
+	public void infersTotalForPartialPages() {
+
+		assertThat(QueryUtils.getInferredTotal(Arrays.asList(1, 2), new PageRequest(0, 10)), is(2L));
+		assertThat(QueryUtils.getInferredTotal(Arrays.asList(1, 2), new PageRequest(2, 10)), is(22L));
+		assertThat(QueryUtils.getInferredTotal(Collections.emptyList(), new PageRequest(0, 10)), is(0L));
+	}
+
+	@Test
+	public void doesNotInferTotalForFullOrEmptySubsequentPages() {
+
+		assertThat(QueryUtils.getInferredTotal(Arrays.asList(1, 2), new PageRequest(0, 2)), is(-1L));
+		assertThat(QueryUtils.getInferredTotal(Collections.emptyList(), new PageRequest(1, 10)), is(-1L));
+	}
+
+	@Test
+	public void doesNotCountIfTotalCanBeInferred() throws Exception {
+
+		Page<Integer> page = QueryUtils.getPage(new PageRequest(0, 10), find(1, 2, 3), count, null);
+
+		assertThat(page.getTotalElements(), is(3L));
+		verify(count, never()).call();
+	}
+
+	@Test
+	public void countsIfPageIsFull() throws Exception {
+
+		when(count.call()).thenReturn(42L);
+
+		Page<Integer> page = QueryUtils.getPage(new PageRequest(0, 2), find(1, 2), count, null);
+
+		assertThat(page.getTotalElements(), is(42L));
+		verify(count, times(1)).call();
+	}
+
+	@Test
+	public void runsCountOnExecutor() throws Exception {
+
+		when(count.call()).thenReturn(42L);
+		Executor executor = mock(Executor.class);
+		doAnswer(new Answer<Void>() {
+			public Void answer(InvocationOnMock invocation) {
+				((Runnable) invocation.getArguments()[0]).run();
+				return null;
+			}
+		}).when(executor).execute(any(Runnable.class));
+
+		Page<Integer> page = QueryUtils.getPage(new PageRequest(0, 2), find(1, 2), count, executor);
+
+		assertThat(page.getTotalElements(), is(42L));
+		verify(executor, times(1)).execute(any(Runnable.class));
+	}
+
+	private static Callable<List<Integer>> find(final Integer... values) {
+
+		return new Callable<List<Integer>>() {
+			public List<Integer> call() {
+				return Arrays.asList(values);
+			}
+		};
+	}
+}